@@ -0,0 +1,118 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/**
+ * Measures end-to-end calls per second of {@code ExternalGithubClient} against a local WireMock
+ * stand-in for Github, with both the default and the pooled transport. Responses are the samples
+ * from 'src/test/resources/sample_responses' and are served without delay, so the results reflect
+ * the overhead of the client rather than network latency. The repository listing has two pages, the
+ * second of which is fetched on a bulk request thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class ClientThroughputBenchmark {
+  @Param({"default", "pooled"})
+  public String transport;
+
+  private WireMockServer server;
+  private ExternalGithubClient client;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    server = new WireMockServer(wireMockConfig().dynamicPort().containerThreads(32));
+    server.start();
+    stub("/repos/example-org/map-repo/branches/master", "branch_listing_response.json");
+    stub("/repos/example-org/map-repo/releases/latest", "latest_release_response.json");
+    server.stubFor(
+        get(urlPathEqualTo("/orgs/example-org/repos"))
+            .withQueryParam("page", equalTo("1"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader(
+                        "Link",
+                        "<" + server.baseUrl() + "/orgs/example-org/repos?page=2>; rel=\"last\"")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/repo_listing_response_page1.json"))));
+    server.stubFor(
+        get(urlPathEqualTo("/orgs/example-org/repos"))
+            .withQueryParam("page", equalTo("2"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/repo_listing_response_page2.json"))));
+
+    final ExternalGithubClient.ExternalGithubClientBuilder builder =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()));
+    if (transport.equals("pooled")) {
+      builder.transportSettings(TransportSettings.builder().build());
+    }
+    client = builder.build();
+  }
+
+  private void stub(final String path, final String sampleFile) {
+    server.stubFor(
+        get(path)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(TestDataFileReader.readContents("sample_responses/" + sampleFile))));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    server.stop();
+  }
+
+  @Benchmark
+  public BranchInfoResponse fetchBranchInfo() {
+    return client.fetchBranchInfo("map-repo", "master");
+  }
+
+  @Benchmark
+  public Optional<String> fetchLatestVersion() {
+    return client.fetchLatestVersion("map-repo");
+  }
+
+  @Benchmark
+  public Collection<RepositoryListing> listRepositories() {
+    return client.listRepositories();
+  }
+}
@@ -0,0 +1,97 @@
+package org.triplea.github.client;
+
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.issue.CreateIssueResponse;
+import org.triplea.github.client.repo.LatestReleaseResponse;
+
+/**
+ * Measures how fast each sample response in 'src/test/resources/sample_responses' is decoded by the
+ * decoder the client uses. Run with the 'gc' profiler (configured in build.gradle) to also report
+ * the allocation rate per decoded response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseDecodeBenchmark {
+  private static final Request REQUEST =
+      Request.create(
+          Request.HttpMethod.GET,
+          "https://api.github.com",
+          Map.of(),
+          null,
+          StandardCharsets.UTF_8,
+          null);
+
+  private Decoder decoder;
+  private byte[] branchListing;
+  private byte[] repoListingPage1;
+  private byte[] repoListingPage2;
+  private byte[] latestRelease;
+  private byte[] createIssue;
+
+  @Setup
+  public void setUp() {
+    decoder = ExternalGithubClient.responseDecoder();
+    branchListing = sample("branch_listing_response.json");
+    repoListingPage1 = sample("repo_listing_response_page1.json");
+    repoListingPage2 = sample("repo_listing_response_page2.json");
+    latestRelease = sample("latest_release_response.json");
+    createIssue = sample("create_issue_response.json");
+  }
+
+  private static byte[] sample(final String fileName) {
+    return TestDataFileReader.readContents("sample_responses/" + fileName)
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private Object decode(final byte[] body, final Type type) throws IOException {
+    return decoder.decode(
+        Response.builder().status(200).request(REQUEST).headers(Map.of()).body(body).build(), type);
+  }
+
+  @Benchmark
+  public Object branchListing() throws IOException {
+    return decode(branchListing, BranchInfoResponse.class);
+  }
+
+  @Benchmark
+  public Object repoListingPage1() throws IOException {
+    return decode(repoListingPage1, RepositoryListingPage.class);
+  }
+
+  @Benchmark
+  public Object repoListingPage2() throws IOException {
+    return decode(repoListingPage2, RepositoryListingPage.class);
+  }
+
+  @Benchmark
+  public Object latestRelease() throws IOException {
+    return decode(latestRelease, LatestReleaseResponse.class);
+  }
+
+  @Benchmark
+  public Object createIssue() throws IOException {
+    return decode(createIssue, CreateIssueResponse.class);
+  }
+}
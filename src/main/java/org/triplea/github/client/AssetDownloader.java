@@ -0,0 +1,324 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
+import com.google.common.io.BaseEncoding;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Downloads release assets and repository archives into a file with constant memory use. The
+ * response is streamed through a fixed size buffer into a {@code FileChannel}, and the SHA-256
+ * checksum is computed along the way.
+ *
+ * <p>Downloads are written to a '.part' file next to the target, which is moved onto the target
+ * once complete (and verified, if a checksum is given). A download that fails midway leaves the
+ * '.part' file in place, along with a '.part.validator' file holding the source URI and the 'ETag'
+ * (or 'Last-Modified' date) of the response. Downloading the same source to the same target again
+ * continues where it stopped with a 'Range' request (the checksum then covers the existing bytes
+ * too). The request carries the validator as 'If-Range', so the server sends the whole file again
+ * if it changed in the meantime, and the download then starts over. A '.part' file without a
+ * matching validator is never resumed.
+ *
+ * <p>Github answers asset and archive requests with a redirect to a storage host (eg:
+ * 'codeload.github.com' or 'objects.githubusercontent.com'). Redirects are followed here rather
+ * than by the HTTP client, so that the auth token is sent to the Github API host only and never to
+ * the storage host, which would reject the request. With a {@code TokenPool}, each request to the
+ * API host is sent with a token of the pool, and the rate limit headers of its response are
+ * recorded for that token.
+ */
+class AssetDownloader {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_REDIRECTS = 5;
+  private static final Set<Integer> REDIRECT_STATUSES = Set.of(301, 302, 303, 307, 308);
+
+  private final URI apiUri;
+  @Nullable private final String authToken;
+  @Nullable private final TokenPool tokenPool;
+
+  private final Supplier<HttpClient> httpClient;
+
+  /**
+   * @param authToken Auth token sent with requests to the API host, if any.
+   * @param tokenPool Pool of the auth tokens sent with requests to the API host, if any. Takes the
+   *     place of 'authToken'.
+   */
+  AssetDownloader(
+      final URI apiUri, @Nullable final String authToken, @Nullable final TokenPool tokenPool) {
+    this.apiUri = apiUri;
+    this.authToken = authToken;
+    this.tokenPool = tokenPool;
+    // created on first use, the client starts a selector thread
+    httpClient =
+        Suppliers.memoize(
+            () ->
+                HttpClient.newBuilder()
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build());
+  }
+
+  /** Returns the URI of the zip archive of a repository at a branch, tag or commit. */
+  URI archiveUri(final String org, final String repo, final String ref) {
+    return URI.create(
+        apiUri.toString().replaceAll("/+$", "") + "/repos/" + org + "/" + repo + "/zipball/" + ref);
+  }
+
+  /**
+   * Downloads a file into the target, continuing a partial download of the same source if one was
+   * left by an earlier call. An existing target is replaced once the download completes.
+   *
+   * @param expectedSha256 Optional hex encoded SHA-256 checksum the download must match. The
+   *     download is discarded (and an existing target left as is) if it does not.
+   * @throws IOException Thrown if the download fails, the server answers with an error status or
+   *     the checksum does not match.
+   */
+  DownloadResult download(
+      final URI source, final Path target, @Nullable final String expectedSha256)
+      throws IOException {
+    Preconditions.checkNotNull(source);
+    Preconditions.checkNotNull(target);
+    final Path partFile = target.resolveSibling(target.getFileName() + ".part");
+    final Path validatorFile = target.resolveSibling(target.getFileName() + ".part.validator");
+    final MessageDigest digest = sha256();
+
+    final DownloadResult result;
+    try (FileChannel channel =
+        FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      final Optional<String> validator = readValidator(validatorFile, source);
+      if (validator.isEmpty()) {
+        channel.truncate(0);
+      }
+      final long existingSize = channel.size();
+      final HttpResponse<InputStream> response = send(source, existingSize, validator.orElse(null));
+      try (InputStream body = response.body()) {
+        result =
+            receive(source, partFile, validatorFile, response, body, channel, existingSize, digest);
+      }
+    }
+    verify(result, partFile, validatorFile, expectedSha256);
+    Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING);
+    Files.deleteIfExists(validatorFile);
+    return new DownloadResult(target, result.getSize(), result.getSha256(), result.isResumed());
+  }
+
+  private static DownloadResult receive(
+      final URI source,
+      final Path partFile,
+      final Path validatorFile,
+      final HttpResponse<InputStream> response,
+      final InputStream body,
+      final FileChannel channel,
+      final long existingSize,
+      final MessageDigest digest)
+      throws IOException {
+    if (response.statusCode() == 416 && existingSize > 0) {
+      // the previous download had already completed
+      hashExistingContent(partFile, existingSize, digest);
+      return new DownloadResult(partFile, existingSize, hex(digest), false);
+    }
+
+    final boolean resumed;
+    if (response.statusCode() == 206 && isContinuationOf(response, existingSize)) {
+      hashExistingContent(partFile, existingSize, digest);
+      resumed = true;
+    } else if (response.statusCode() == 200) {
+      // either a fresh download, or the file changed since the partial download (or the server
+      // does not support ranges)
+      channel.truncate(0);
+      resumed = false;
+    } else {
+      throw new IOException(
+          "Download of " + source + " failed with status " + response.statusCode());
+    }
+    writeValidator(validatorFile, source, response);
+    final long size = transfer(body, channel, digest);
+    channel.force(false);
+    return new DownloadResult(partFile, size, hex(digest), resumed);
+  }
+
+  /**
+   * Reads the validator saved with a partial download, empty if there is none or if it was saved
+   * for another source.
+   */
+  private static Optional<String> readValidator(final Path validatorFile, final URI source)
+      throws IOException {
+    if (!Files.exists(validatorFile)) {
+      return Optional.empty();
+    }
+    final List<String> lines = Files.readAllLines(validatorFile, StandardCharsets.UTF_8);
+    return lines.size() == 2 && lines.get(0).equals(source.toString())
+        ? Optional.of(lines.get(1))
+        : Optional.empty();
+  }
+
+  /**
+   * Saves the validator of a response before its body is written, so that the download can be
+   * resumed if it is interrupted. Only strong ETags are valid in 'If-Range', responses without one
+   * fall back on their 'Last-Modified' date and are not resumable without either.
+   */
+  private static void writeValidator(
+      final Path validatorFile, final URI source, final HttpResponse<InputStream> response)
+      throws IOException {
+    final Optional<String> validator =
+        response
+            .headers()
+            .firstValue("ETag")
+            .filter(etag -> !etag.startsWith("W/"))
+            .or(() -> response.headers().firstValue("Last-Modified"));
+    if (validator.isPresent()) {
+      Files.write(
+          validatorFile, List.of(source.toString(), validator.get()), StandardCharsets.UTF_8);
+    } else {
+      Files.deleteIfExists(validatorFile);
+    }
+  }
+
+  private HttpResponse<InputStream> send(
+      final URI source, final long rangeStart, @Nullable final String validator)
+      throws IOException {
+    URI uri = source;
+    for (int redirects = 0; ; redirects++) {
+      final HttpRequest.Builder request =
+          HttpRequest.newBuilder(uri).header("Accept", "application/octet-stream").GET();
+      if (rangeStart > 0 && validator != null) {
+        request.header("Range", "bytes=" + rangeStart + "-");
+        request.header("If-Range", validator);
+      }
+      final boolean apiHost = Objects.equals(uri.getHost(), apiUri.getHost());
+      final Optional<TokenPool.PooledToken> pooledToken =
+          tokenPool == null || !apiHost
+              ? Optional.empty()
+              : tokenPool.acquire(RateLimitTracker.CORE_RESOURCE, Instant.now());
+      final Optional<String> authorization =
+          apiHost
+              ? pooledToken
+                  .map(TokenPool.PooledToken::getToken)
+                  .or(() -> Optional.ofNullable(authToken))
+              : Optional.empty();
+      authorization.ifPresent(token -> request.header("Authorization", "token " + token));
+
+      final HttpResponse<InputStream> response;
+      try {
+        response =
+            httpClient.get().send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+      } catch (final InterruptedException e) {
+        pooledToken.ifPresent(TokenPool.PooledToken::released);
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while downloading " + source);
+      } catch (final IOException | RuntimeException e) {
+        pooledToken.ifPresent(TokenPool.PooledToken::released);
+        throw e;
+      }
+      pooledToken.ifPresent(
+          pooled -> pooled.completed(Collections.unmodifiableMap(response.headers().map())));
+      final Optional<String> location = response.headers().firstValue("Location");
+      if (!REDIRECT_STATUSES.contains(response.statusCode()) || location.isEmpty()) {
+        return response;
+      }
+      response.body().close();
+      if (redirects == MAX_REDIRECTS) {
+        throw new IOException("Too many redirects downloading " + source);
+      }
+      uri = uri.resolve(location.get());
+    }
+  }
+
+  /** Checks that a 206 response starts at the end of the partial file. */
+  private static boolean isContinuationOf(
+      final HttpResponse<InputStream> response, final long existingSize) {
+    return response
+        .headers()
+        .firstValue("Content-Range")
+        .filter(range -> range.startsWith("bytes " + existingSize + "-"))
+        .isPresent();
+  }
+
+  private static void hashExistingContent(
+      final Path file, final long size, final MessageDigest digest) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long position = 0;
+      while (position < size) {
+        buffer.clear().limit((int) Math.min(BUFFER_SIZE, size - position));
+        final int read = channel.read(buffer, position);
+        if (read < 0) {
+          break;
+        }
+        position += read;
+        digest.update(buffer.flip());
+      }
+    }
+  }
+
+  /** Appends the stream to the end of the channel and returns the resulting size of the file. */
+  private static long transfer(
+      final InputStream in, final FileChannel channel, final MessageDigest digest)
+      throws IOException {
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    long position = channel.size();
+    int read;
+    while ((read = in.read(buffer)) >= 0) {
+      digest.update(buffer, 0, read);
+      final ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+      while (chunk.hasRemaining()) {
+        position += channel.write(chunk, position);
+      }
+    }
+    return position;
+  }
+
+  private static void verify(
+      final DownloadResult result,
+      final Path partFile,
+      final Path validatorFile,
+      @Nullable final String expectedSha256)
+      throws IOException {
+    if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(result.getSha256())) {
+      Files.deleteIfExists(partFile);
+      Files.deleteIfExists(validatorFile);
+      throw new IOException(
+          "Checksum mismatch of "
+              + partFile
+              + ", expected "
+              + expectedSha256
+              + " but was "
+              + result.getSha256());
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static String hex(final MessageDigest digest) {
+    return BaseEncoding.base16().lowerCase().encode(digest.digest());
+  }
+}
@@ -0,0 +1,38 @@
+package org.triplea.github.client;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.issue.CreateIssueRequest;
+import org.triplea.github.client.issue.CreateIssueResponse;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/**
+ * Non-blocking counterpart of {@code GithubClient}. Operations return immediately, the returned
+ * futures complete once Github has responded. Failed requests complete the future exceptionally
+ * with a {@code feign.FeignException}.
+ */
+public interface AsyncGithubClient extends AutoCloseable {
+  CompletableFuture<CreateIssueResponse> createIssue(CreateIssueRequest createIssueRequest);
+
+  /**
+   * @see GithubClient#fetchBranchInfo(String, String)
+   */
+  CompletableFuture<BranchInfoResponse> fetchBranchInfo(String repositoryName, String branchName);
+
+  /**
+   * @see GithubClient#listRepositories()
+   */
+  CompletableFuture<Collection<RepositoryListing>> listRepositories();
+
+  /**
+   * Fetches the tag name of the latest release of a repository, completes with an empty optional if
+   * the latest release could not be fetched.
+   */
+  CompletableFuture<Optional<String>> fetchLatestVersion(String repositoryName);
+
+  /** Releases the connections and I/O threads of the client. */
+  @Override
+  void close();
+}
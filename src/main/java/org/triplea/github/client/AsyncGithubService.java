@@ -0,0 +1,32 @@
+package org.triplea.github.client;
+
+import feign.Param;
+import feign.QueryMap;
+import feign.RequestLine;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.issue.CreateIssueRequest;
+import org.triplea.github.client.issue.CreateIssueResponse;
+import org.triplea.github.client.repo.LatestReleaseResponse;
+
+/** Asynchronous variant of {@code ExternalGithubService}. */
+@SuppressWarnings("InterfaceNeverImplemented")
+interface AsyncGithubService {
+
+  @RequestLine("POST " + ExternalGithubService.CREATE_ISSUE_PATH)
+  CompletableFuture<CreateIssueResponse> newIssue(
+      @Param("org") String org, @Param("repo") String repo, CreateIssueRequest createIssueRequest);
+
+  @RequestLine("GET " + ExternalGithubService.BRANCHES_PATH)
+  CompletableFuture<BranchInfoResponse> getBranchInfo(
+      @Param("org") String org, @Param("repo") String repo, @Param("branch") String branch);
+
+  @RequestLine("GET " + ExternalGithubService.LATEST_RELEASE_PATH)
+  CompletableFuture<LatestReleaseResponse> getLatestRelease(
+      @Param("org") String org, @Param("repo") String repo);
+
+  @RequestLine("GET " + ExternalGithubService.LIST_REPOS_PATH)
+  CompletableFuture<RepositoryListingPage> listRepos(
+      @QueryMap Map<String, String> queryParams, @Param("org") String org);
+}
@@ -0,0 +1,19 @@
+package org.triplea.github.client;
+
+import javax.annotation.Nullable;
+import lombok.Value;
+
+/** Usage counters and rate limit budget of one auth token of a token pool. */
+@Value
+public class AuthTokenStats {
+  /** Identifies the token without revealing it: its last four characters. */
+  String label;
+  /** Number of requests sent with the token. */
+  long requestCount;
+  /** Whether Github rejected the token (401) and it was taken out of rotation. */
+  boolean revoked;
+  /** Budget of the REST API as of the token's most recent response, null if not known yet. */
+  @Nullable RateLimitStatus coreRateLimit;
+  /** Budget of the GraphQL API as of the token's most recent response, null if not known yet. */
+  @Nullable RateLimitStatus graphqlRateLimit;
+}
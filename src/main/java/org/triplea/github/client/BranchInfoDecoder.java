@@ -0,0 +1,31 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.triplea.github.client.branch.BranchInfoResponse;
+
+/**
+ * Decodes a 'branches' response by reading only 'commit.commit.author.date', parsing stops as soon
+ * as the date is found.
+ */
+class BranchInfoDecoder implements Decoder {
+  @Override
+  public Object decode(final Response response, final Type type) throws IOException {
+    try (JsonParser parser = StreamingJson.parserFor(response)) {
+      if (parser == null || parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      if (!StreamingJson.moveToPath(parser, "commit", "commit", "author", "date")) {
+        throw new DecodeException(
+            response.status(), "Branch response has no commit date", response.request());
+      }
+      return BranchInfoResponse.fromLastCommitDate(
+          StreamingJson.parseInstant(parser.getValueAsString()));
+    }
+  }
+}
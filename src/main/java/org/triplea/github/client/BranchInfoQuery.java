@@ -0,0 +1,67 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.triplea.github.client.branch.BranchInfoResponse;
+
+/**
+ * Builds a GraphQL query that fetches the last commit date of a branch for a batch of repositories,
+ * and reads the results from the response. Each repository is queried with an alias ('r0', 'r1',
+ * ...) and names are passed as variables, eg:
+ *
+ * <pre>
+ * query($owner: String!, $repo0: String!, $branch0: String!) {
+ *   r0: repository(owner: $owner, name: $repo0) {
+ *     ref(qualifiedName: $branch0) { target { ... on Commit { author { date } } } }
+ *   }
+ * }
+ * </pre>
+ */
+@UtilityClass
+class BranchInfoQuery {
+
+  /**
+   * @param batch Pairs of repository name and branch name to query.
+   */
+  static GraphqlRequest build(final String org, final List<Map.Entry<String, String>> batch) {
+    final StringBuilder declarations = new StringBuilder("$owner: String!");
+    final StringBuilder selections = new StringBuilder();
+    final Map<String, Object> variables = new HashMap<>();
+    variables.put("owner", org);
+
+    for (int i = 0; i < batch.size(); i++) {
+      declarations.append(", $repo").append(i).append(": String!, $branch").append(i);
+      declarations.append(": String!");
+      selections.append(" r").append(i).append(": repository(owner: $owner, name: $repo");
+      selections.append(i).append(") { ref(qualifiedName: $branch").append(i);
+      selections.append(") { target { ... on Commit { author { date } } } } }");
+      variables.put("repo" + i, batch.get(i).getKey());
+      variables.put("branch" + i, "refs/heads/" + batch.get(i).getValue());
+    }
+    return new GraphqlRequest("query(" + declarations + ") {" + selections + " }", variables);
+  }
+
+  /**
+   * Reads the branch info of each repository of a batch from the query response. Repositories and
+   * branches that do not exist are left out of the result.
+   */
+  static Map<String, BranchInfoResponse> parse(
+      final List<Map.Entry<String, String>> batch, final GraphqlResponse response) {
+    final JsonNode data = response.requireData();
+    final Map<String, BranchInfoResponse> results = new HashMap<>();
+    for (int i = 0; i < batch.size(); i++) {
+      final JsonNode date =
+          data.path("r" + i).path("ref").path("target").path("author").path("date");
+      if (date.isTextual()) {
+        results.put(
+            batch.get(i).getKey(),
+            BranchInfoResponse.fromLastCommitDate(OffsetDateTime.parse(date.asText()).toInstant()));
+      }
+    }
+    return results;
+  }
+}
@@ -0,0 +1,60 @@
+package org.triplea.github.client;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+
+/** Runs the individual requests of a bulk operation concurrently with bounded parallelism. */
+@UtilityClass
+class BulkRequests {
+
+  /**
+   * Invokes each call on a thread pool of at most 'parallelism' threads and waits for all of them
+   * to complete.
+   *
+   * @param threadNameFormat Name format of the pool threads, eg: "github-repo-listing-%d".
+   * @return Call results in the same order as the calls.
+   * @throws RuntimeException The first exception (in call order) thrown by any of the calls.
+   */
+  static <T> List<T> invokeAll(
+      final List<Supplier<T>> calls, final int parallelism, final String threadNameFormat) {
+    if (calls.isEmpty()) {
+      return List.of();
+    }
+    if (calls.size() == 1) {
+      return List.of(calls.get(0).get());
+    }
+
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(parallelism, calls.size()),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat(threadNameFormat).build());
+    try {
+      final List<Future<T>> futures =
+          calls.stream().map(call -> executor.submit(call::get)).collect(Collectors.toList());
+
+      final List<T> results = new ArrayList<>(futures.size());
+      for (final Future<T> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for Github responses", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Github request failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
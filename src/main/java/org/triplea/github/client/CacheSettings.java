@@ -0,0 +1,24 @@
+package org.triplea.github.client;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Value;
+
+/** Configures the in-memory cache of one operation of a {@code CachingGithubClient}. */
+@Builder
+@Value
+public class CacheSettings {
+  /** How long a result is kept after it was fetched. */
+  @Builder.Default Duration timeToLive = Duration.ofMinutes(5);
+
+  /** Max number of results kept, the least recently used results are evicted first. */
+  @Builder.Default long maximumSize = 1000;
+
+  /**
+   * How long past its expiry a result may still be returned, while it is refreshed in the
+   * background. A refresh that fails keeps the previous result. Null disables stale results, an
+   * expired result is then fetched again before the call returns.
+   */
+  @Nullable Duration staleWhileRevalidate;
+}
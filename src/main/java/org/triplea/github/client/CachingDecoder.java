@@ -0,0 +1,56 @@
+package org.triplea.github.client;
+
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import lombok.AllArgsConstructor;
+
+/**
+ * Decoder that stores decoded GET responses in a {@code ResponseCache} and returns the cached value
+ * for responses that {@code ConditionalRequestClient} flagged as not modified. Responses without an
+ * 'ETag' or 'Last-Modified' header can not be revalidated and are not cached.
+ *
+ * <p>When the cache is persistent the body is read into memory before decoding, so that the raw
+ * body can be written to disk.
+ */
+@AllArgsConstructor
+class CachingDecoder implements Decoder {
+  private final Decoder delegate;
+  private final ResponseCache responseCache;
+
+  @Override
+  public Object decode(final Response response, final Type type) throws IOException {
+    final Request request = response.request();
+    if (request.httpMethod() != Request.HttpMethod.GET) {
+      return delegate.decode(response, type);
+    }
+    if (response.headers().containsKey(ResponseCache.NOT_MODIFIED_HEADER)) {
+      return responseCache.notModified(
+          request.url(), body -> delegate.decode(response.toBuilder().body(body).build(), type));
+    }
+
+    final String etag = ResponseCache.firstHeaderValue(response, "ETag");
+    final String lastModified = ResponseCache.firstHeaderValue(response, "Last-Modified");
+    final String link = ResponseCache.firstHeaderValue(response, LinkHeader.HEADER_NAME);
+    if (etag == null && lastModified == null) {
+      return delegate.decode(response, type);
+    }
+    if (responseCache.isPersistent() && response.body() != null) {
+      final byte[] body = Util.toByteArray(response.body().asInputStream());
+      final Object decoded = delegate.decode(response.toBuilder().body(body).build(), type);
+      if (decoded != null) {
+        responseCache.store(request.url(), etag, lastModified, link, decoded, body);
+      }
+      return decoded;
+    }
+
+    final Object decoded = delegate.decode(response, type);
+    if (decoded != null) {
+      responseCache.store(request.url(), etag, lastModified, link, decoded);
+    }
+    return decoded;
+  }
+}
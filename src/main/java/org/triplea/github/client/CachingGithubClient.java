@@ -0,0 +1,145 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.issue.CreateIssueRequest;
+import org.triplea.github.client.issue.CreateIssueResponse;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/**
+ * Decorates a {@code GithubClient} with in-memory caches for {@code fetchLatestVersion} and {@code
+ * fetchBranchInfo}. Results are kept for a configurable time, and concurrent identical calls are
+ * coalesced into a single request to Github. Other operations are passed through unchanged.
+ *
+ * <p>An empty latest version signals that Github could not be reached, it is handed to the callers
+ * waiting on the request but is not cached.
+ *
+ * <p>With {@code staleWhileRevalidate} set in the cache settings, an expired result is returned
+ * right away and refreshed in the background. Combined with the circuit breaker of {@code
+ * ExternalGithubClient}, callers keep getting the last known good version without waiting while
+ * Github is down.
+ *
+ * <p>As a {@code GithubWebhookListener} (see {@code GithubWebhookReceiver}), pushes update the
+ * cached branch info right away, and release and repository events drop the cached results of the
+ * repository. Caches can then be kept for long, with the time-to-live as a safety net.
+ */
+public class CachingGithubClient implements GithubClient, GithubWebhookListener {
+  private final GithubClient delegate;
+  private final CoalescingCache<String, Optional<String>> latestVersions;
+  private final CoalescingCache<List<String>, BranchInfoResponse> branchInfos;
+
+  /**
+   * @param delegate The client that sends the requests.
+   * @param latestVersionCache Cache settings of {@code fetchLatestVersion}, defaults if null.
+   * @param branchInfoCache Cache settings of {@code fetchBranchInfo}, defaults if null.
+   */
+  @Builder
+  public CachingGithubClient(
+      @Nonnull GithubClient delegate,
+      @Nullable CacheSettings latestVersionCache,
+      @Nullable CacheSettings branchInfoCache) {
+    this.delegate = Preconditions.checkNotNull(delegate);
+    latestVersions =
+        new CoalescingCache<>(
+            Optional.ofNullable(latestVersionCache)
+                .orElseGet(() -> CacheSettings.builder().build()));
+    branchInfos =
+        new CoalescingCache<>(
+            Optional.ofNullable(branchInfoCache).orElseGet(() -> CacheSettings.builder().build()));
+  }
+
+  @Override
+  public CreateIssueResponse createIssue(CreateIssueRequest createIssueRequest) {
+    return delegate.createIssue(createIssueRequest);
+  }
+
+  @Override
+  public BranchInfoResponse fetchBranchInfo(String repositoryName, String branchName) {
+    Preconditions.checkNotNull(repositoryName);
+    Preconditions.checkNotNull(branchName);
+    return branchInfos.get(
+        List.of(repositoryName, branchName),
+        () -> delegate.fetchBranchInfo(repositoryName, branchName),
+        branchInfo -> true);
+  }
+
+  @Override
+  public Map<String, BranchInfoResponse> fetchBranchInfos(
+      Map<String, String> branchNameByRepositoryName) {
+    return delegate.fetchBranchInfos(branchNameByRepositoryName);
+  }
+
+  @Override
+  public Collection<RepositoryListing> listRepositories() {
+    return delegate.listRepositories();
+  }
+
+  @Override
+  public Stream<RepositoryListing> streamRepositories() {
+    return delegate.streamRepositories();
+  }
+
+  @Override
+  public Optional<String> fetchLatestVersion(String repositoryName) {
+    Preconditions.checkNotNull(repositoryName);
+    return latestVersions.get(
+        repositoryName, () -> delegate.fetchLatestVersion(repositoryName), Optional::isPresent);
+  }
+
+  @Override
+  public Map<String, LatestVersionResult> fetchLatestVersions(Collection<String> repositoryNames) {
+    return delegate.fetchLatestVersions(repositoryNames);
+  }
+
+  @Override
+  public Optional<RateLimitStatus> getRateLimitStatus() {
+    return delegate.getRateLimitStatus();
+  }
+
+  @Override
+  public void branchPushed(
+      final String repositoryName,
+      final String branchName,
+      @Nullable final Instant headCommitDate) {
+    final List<String> key = List.of(repositoryName, branchName);
+    if (headCommitDate == null) {
+      branchInfos.invalidateIf(key::equals);
+    } else {
+      branchInfos.put(key, BranchInfoResponse.fromLastCommitDate(headCommitDate));
+    }
+  }
+
+  /**
+   * Drops the cached latest version of the repository. The version is not taken from the event, as
+   * the changed release is not necessarily the latest one (eg: a pre-release or a patch of an older
+   * version).
+   */
+  @Override
+  public void releaseChanged(
+      final String repositoryName, final String tagName, final String action) {
+    latestVersions.invalidateIf(repositoryName::equals);
+  }
+
+  @Override
+  public void repositoryChanged(final String repositoryName, final String action) {
+    latestVersions.invalidateIf(repositoryName::equals);
+    branchInfos.invalidateIf(key -> key.get(0).equals(repositoryName));
+  }
+
+  public OperationCacheStats getLatestVersionStats() {
+    return latestVersions.stats();
+  }
+
+  public OperationCacheStats getBranchInfoStats() {
+    return branchInfos.stats();
+  }
+}
@@ -0,0 +1,65 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import java.time.Instant;
+import lombok.Getter;
+
+/**
+ * Counts consecutive failures of an operation and stops calls to it once Github appears to be down,
+ * so that callers fail fast instead of each waiting for a timeout. While open, one trial call is
+ * let through per open period to detect that Github is back.
+ */
+class CircuitBreaker {
+  enum State {
+    /** Calls are let through. */
+    CLOSED,
+    /** Calls are rejected until the open period ends. */
+    OPEN,
+    /** A trial call is in flight, other calls are rejected until it completes. */
+    HALF_OPEN
+  }
+
+  private final CircuitBreakerSettings settings;
+
+  @Getter private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private Instant openUntil = Instant.MIN;
+
+  CircuitBreaker(final CircuitBreakerSettings settings) {
+    Preconditions.checkArgument(settings.getFailureThreshold() > 0);
+    Preconditions.checkArgument(!settings.getOpenDuration().isNegative());
+    this.settings = settings;
+  }
+
+  /**
+   * Returns whether a call may be sent. Once the open period has ended the first caller is let
+   * through as trial call.
+   */
+  synchronized boolean tryAcquire(final Instant now) {
+    switch (state) {
+      case CLOSED:
+        return true;
+      case OPEN:
+        if (now.isBefore(openUntil)) {
+          return false;
+        }
+        state = State.HALF_OPEN;
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  synchronized void recordSuccess() {
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+  }
+
+  synchronized void recordFailure(final Instant now) {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= settings.getFailureThreshold()) {
+      state = State.OPEN;
+      openUntil = now.plus(settings.getOpenDuration());
+    }
+  }
+}
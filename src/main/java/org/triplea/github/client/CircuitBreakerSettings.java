@@ -0,0 +1,23 @@
+package org.triplea.github.client;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Configures the circuit breaker of {@code fetchLatestVersion}. After a run of failed requests the
+ * breaker opens and calls return right away without sending a request, until a trial request
+ * succeeds again.
+ */
+@Builder
+@Value
+public class CircuitBreakerSettings {
+  /** Number of consecutive failed requests that open the breaker. */
+  @Builder.Default int failureThreshold = 5;
+
+  /**
+   * How long the breaker stays open before a single trial request is let through. A successful
+   * trial closes the breaker, a failed one keeps it open for another period.
+   */
+  @Builder.Default Duration openDuration = Duration.ofSeconds(30);
+}
@@ -0,0 +1,204 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Size bounded, time-to-live evicting cache that loads each missing key at most once at a time.
+ * Concurrent calls for a key that is being loaded wait for the in-flight load and share its result
+ * (or exception) instead of loading the key again.
+ *
+ * <p>With stale-while-revalidate enabled, an expired value is still returned for a while, and is
+ * reloaded in the background. A reload that yields no cacheable value leaves the expired value in
+ * place, so callers keep getting the last good value while the loader fails.
+ *
+ * <p>Values put or invalidated while a load of the key is in flight win over the loaded value: the
+ * in-flight load is detached from the key, its callers still receive the loaded value but it is not
+ * cached.
+ */
+@Slf4j
+class CoalescingCache<K, V> {
+  private final Cache<K, V> cache;
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  /** Last good value of each key, kept past expiry for the stale-while-revalidate period. */
+  @Nullable private final Cache<K, V> staleValues;
+
+  @Nullable private final Executor refreshExecutor;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder staleHits = new LongAdder();
+
+  CoalescingCache(final CacheSettings settings) {
+    Preconditions.checkArgument(!settings.getTimeToLive().isNegative());
+    Preconditions.checkArgument(settings.getMaximumSize() >= 0);
+    cache =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(settings.getTimeToLive())
+            .maximumSize(settings.getMaximumSize())
+            .build();
+    if (settings.getStaleWhileRevalidate() == null) {
+      staleValues = null;
+      refreshExecutor = null;
+    } else {
+      Preconditions.checkArgument(!settings.getStaleWhileRevalidate().isNegative());
+      staleValues =
+          CacheBuilder.newBuilder()
+              .expireAfterWrite(settings.getTimeToLive().plus(settings.getStaleWhileRevalidate()))
+              .maximumSize(settings.getMaximumSize())
+              .build();
+      refreshExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("github-cache-refresh-%d")
+                  .build());
+    }
+  }
+
+  /**
+   * Returns the cached value of a key, loading it if absent.
+   *
+   * @param loader Loads the value of the key, exceptions are passed on to every waiting caller.
+   * @param cacheable Decides if a loaded value is kept, values that are not kept are still handed
+   *     to the callers waiting on the load.
+   */
+  V get(final K key, final Supplier<V> loader, final Predicate<V> cacheable) {
+    final V cached = cache.getIfPresent(key);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+
+    final V stale = staleValues == null ? null : staleValues.getIfPresent(key);
+    if (stale != null) {
+      staleHits.increment();
+      refreshInBackground(key, loader, cacheable);
+      return stale;
+    }
+
+    final CompletableFuture<V> load = new CompletableFuture<>();
+    final CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+    if (existing != null) {
+      coalesced.increment();
+      return await(existing);
+    }
+    return load(key, load, loader, cacheable);
+  }
+
+  /** Reloads a key on the refresh thread, unless a load of the key is already in flight. */
+  private void refreshInBackground(
+      final K key, final Supplier<V> loader, final Predicate<V> cacheable) {
+    final CompletableFuture<V> load = new CompletableFuture<>();
+    if (inFlight.putIfAbsent(key, load) != null) {
+      return;
+    }
+    refreshExecutor.execute(
+        () -> {
+          try {
+            load(key, load, loader, cacheable);
+          } catch (final RuntimeException e) {
+            log.warn("Failed to refresh cached value of: " + key, e);
+          }
+        });
+  }
+
+  private V load(
+      final K key,
+      final CompletableFuture<V> load,
+      final Supplier<V> loader,
+      final Predicate<V> cacheable) {
+    try {
+      // a load of the same key may have completed between the cache check and claiming the load
+      final V loadedMeanwhile = cache.getIfPresent(key);
+      if (loadedMeanwhile != null) {
+        hits.increment();
+        load.complete(loadedMeanwhile);
+        return loadedMeanwhile;
+      }
+      misses.increment();
+      final V value = loader.get();
+      if (value != null && cacheable.test(value)) {
+        // cached only if no put or invalidation detached the load from the key in the meantime
+        inFlight.computeIfPresent(
+            key,
+            (k, current) -> {
+              if (current != load) {
+                return current;
+              }
+              cacheValue(key, value);
+              return null;
+            });
+      }
+      load.complete(value);
+      return value;
+    } catch (final RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, load);
+    }
+  }
+
+  private static <V> V await(final CompletableFuture<V> load) {
+    try {
+      return load.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Github request failed", e.getCause());
+    }
+  }
+
+  /**
+   * Replaces the cached value of a key, eg: with a value that was pushed by Github. A load of the
+   * key that is in flight is not cached when it completes.
+   */
+  void put(final K key, final V value) {
+    inFlight.compute(
+        key,
+        (k, load) -> {
+          cacheValue(key, value);
+          return null;
+        });
+  }
+
+  private void cacheValue(final K key, final V value) {
+    cache.put(key, value);
+    if (staleValues != null) {
+      staleValues.put(key, value);
+    }
+  }
+
+  /**
+   * Drops the cached values of the matching keys, they are loaded again on their next call. Loads
+   * of the matching keys that are in flight are not cached when they complete.
+   */
+  void invalidateIf(final Predicate<K> keyFilter) {
+    // detach in-flight loads first, a load completing before that is dropped along with the cache
+    inFlight.keySet().removeIf(keyFilter);
+    cache.asMap().keySet().removeIf(keyFilter);
+    if (staleValues != null) {
+      staleValues.asMap().keySet().removeIf(keyFilter);
+    }
+  }
+
+  OperationCacheStats stats() {
+    return new OperationCacheStats(hits.sum(), misses.sum(), coalesced.sum(), staleHits.sum());
+  }
+}
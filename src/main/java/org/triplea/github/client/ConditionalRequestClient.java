@@ -0,0 +1,123 @@
+package org.triplea.github.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.AllArgsConstructor;
+
+/**
+ * Decorates a feign client to send GET requests as conditional requests when a previous response to
+ * the same URL is cached. A '304 Not Modified' response is converted to a '200' response flagged
+ * with {@code ResponseCache.NOT_MODIFIED_HEADER} so that feign hands it to {@code CachingDecoder}
+ * rather than treating it as an error.
+ *
+ * <p>Responses restored from disk by a persistent cache are flagged as not modified without sending
+ * anything, the conditional request is then sent in the background.
+ *
+ * <p>Responses flagged as not modified carry the 'Link' header of the cached response, unless
+ * Github sent one along with the '304', so that paged listings can still find their last page.
+ */
+@AllArgsConstructor
+class ConditionalRequestClient implements Client {
+  private final Client delegate;
+  private final ResponseCache responseCache;
+
+  @Override
+  public Response execute(final Request request, final Request.Options options) throws IOException {
+    if (request.httpMethod() != Request.HttpMethod.GET || isNoCacheRequest(request)) {
+      return delegate.execute(request, options);
+    }
+
+    final Optional<ResponseCache.Entry> cached = responseCache.lookup(request.url());
+    if (cached.isEmpty()) {
+      return delegate.execute(request, options);
+    }
+
+    final Request conditionalRequest = withValidators(request, cached.get());
+    if (responseCache.isServableBeforeRevalidation(cached.get())) {
+      responseCache.revalidateInBackground(
+          request.url(), () -> revalidate(conditionalRequest, options));
+      return notModified(
+          Response.builder()
+              .request(request)
+              .headers(Map.of())
+              .status(HttpURLConnection.HTTP_NOT_MODIFIED)
+              .build(),
+          cached.get());
+    }
+
+    final Response response = delegate.execute(conditionalRequest, options);
+    if (response.status() != HttpURLConnection.HTTP_NOT_MODIFIED) {
+      return response;
+    }
+    response.close();
+    responseCache.revalidated(request.url());
+    return notModified(response, cached.get());
+  }
+
+  private static Response notModified(final Response response, final ResponseCache.Entry entry) {
+    final Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(response.headers());
+    headers.put(ResponseCache.NOT_MODIFIED_HEADER, List.of("true"));
+    if (entry.getLink() != null) {
+      headers.putIfAbsent(LinkHeader.HEADER_NAME, List.of(entry.getLink()));
+    }
+    return response.toBuilder()
+        .status(HttpURLConnection.HTTP_OK)
+        .headers(headers)
+        .body(new byte[0])
+        .build();
+  }
+
+  /**
+   * Sends a conditional request in the background, either confirming the cached response or
+   * replacing it with the new body sent by Github. Error responses leave the cache unchanged.
+   */
+  private void revalidate(final Request conditionalRequest, final Request.Options options)
+      throws IOException {
+    try (Response response = delegate.execute(conditionalRequest, options)) {
+      if (response.status() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+        responseCache.revalidated(conditionalRequest.url());
+      } else if (response.status() / 100 == 2 && response.body() != null) {
+        responseCache.store(
+            conditionalRequest.url(),
+            ResponseCache.firstHeaderValue(response, "ETag"),
+            ResponseCache.firstHeaderValue(response, "Last-Modified"),
+            ResponseCache.firstHeaderValue(response, LinkHeader.HEADER_NAME),
+            null,
+            Util.toByteArray(response.body().asInputStream()));
+      }
+    }
+  }
+
+  private static boolean isNoCacheRequest(final Request request) {
+    final Collection<String> cacheControl = request.headers().get("Cache-Control");
+    return cacheControl != null && cacheControl.contains("no-cache");
+  }
+
+  private static Request withValidators(final Request request, final ResponseCache.Entry entry) {
+    final Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    if (entry.getEtag() != null) {
+      headers.put("If-None-Match", List.of(entry.getEtag()));
+    }
+    if (entry.getLastModified() != null) {
+      headers.put("If-Modified-Since", List.of(entry.getLastModified()));
+    }
+    return Request.create(
+        request.httpMethod(),
+        request.url(),
+        headers,
+        request.body(),
+        request.charset(),
+        request.requestTemplate());
+  }
+}
@@ -0,0 +1,23 @@
+package org.triplea.github.client;
+
+import lombok.Value;
+
+/**
+ * Statistics of a pooled transport. A high number of reused connections relative to opened
+ * connections shows that handshakes are being saved.
+ */
+@Value
+public class ConnectionPoolStats {
+  /** Number of connections currently in the pool. */
+  int connectionCount;
+  /** Number of pooled connections that are currently idle. */
+  int idleConnectionCount;
+  /** Total number of connections opened. */
+  long connectionsOpened;
+  /** Total number of TLS handshakes performed. */
+  long tlsHandshakes;
+  /** Total number of connections opened that negotiated HTTP/2. */
+  long http2ConnectionsOpened;
+  /** Total number of times a request was sent on an already open connection. */
+  long connectionsReused;
+}
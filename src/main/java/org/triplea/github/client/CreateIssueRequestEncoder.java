@@ -0,0 +1,53 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import lombok.AllArgsConstructor;
+import org.triplea.github.client.issue.CreateIssueRequest;
+
+/**
+ * Writes {@code CreateIssueRequest} bodies with a Jackson streaming generator, without an
+ * intermediate object tree. Title and body are already truncated by the request. Other body types
+ * are passed to the fallback encoder.
+ */
+@AllArgsConstructor
+class CreateIssueRequestEncoder implements Encoder {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Encoder fallback;
+
+  @Override
+  public void encode(final Object object, final Type bodyType, final RequestTemplate template) {
+    if (!(object instanceof CreateIssueRequest)) {
+      fallback.encode(object, bodyType, template);
+      return;
+    }
+
+    final CreateIssueRequest request = (CreateIssueRequest) object;
+    final ByteArrayBuilder buffer = new ByteArrayBuilder();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+      generator.writeStartObject();
+      generator.writeStringField("repo", request.getRepo());
+      generator.writeStringField("title", request.getTitle());
+      generator.writeStringField("body", request.getBody());
+      if (request.getLabels() != null) {
+        generator.writeArrayFieldStart("labels");
+        for (final String label : request.getLabels()) {
+          generator.writeString(label);
+        }
+        generator.writeEndArray();
+      }
+      generator.writeEndObject();
+    } catch (final IOException e) {
+      throw new EncodeException("Failed to encode issue request", e);
+    }
+    template.body(buffer.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,17 @@
+package org.triplea.github.client;
+
+import java.nio.file.Path;
+import lombok.Value;
+
+/** Outcome of a completed download of a release asset or repository archive. */
+@Value
+public class DownloadResult {
+  /** File the download was written to. */
+  Path file;
+  /** Size of the downloaded file in bytes. */
+  long size;
+  /** Hex encoded (lower case) SHA-256 checksum of the downloaded file. */
+  String sha256;
+  /** Whether the download continued a partial file left by an interrupted download. */
+  boolean resumed;
+}
@@ -0,0 +1,53 @@
+package org.triplea.github.client;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/** Metrics of one endpoint as collected by {@code GithubMetricsRecorder}. */
+public class EndpointMetrics {
+  @Getter private final LatencyHistogram latency = new LatencyHistogram();
+  private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+  private final LongAdder responseBytes = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+
+  void recordResponse(final int status, final long bytes) {
+    statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+    if (bytes > 0) {
+      responseBytes.add(bytes);
+    }
+  }
+
+  void recordFailure() {
+    failures.increment();
+  }
+
+  void recordRetry() {
+    retries.increment();
+  }
+
+  /** Number of responses by HTTP status, sorted by status. */
+  public Map<Integer, Long> getStatusCounts() {
+    final Map<Integer, Long> counts = new TreeMap<>();
+    statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+    return counts;
+  }
+
+  /** Total size of the response bodies whose length was known up front. */
+  public long getResponseBytes() {
+    return responseBytes.sum();
+  }
+
+  /** Number of requests that failed without a response. */
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  /** Number of retries of rate limited requests. */
+  public long getRetryCount() {
+    return retries.sum();
+  }
+}
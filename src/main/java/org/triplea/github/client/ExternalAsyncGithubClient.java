@@ -0,0 +1,240 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import feign.AsyncFeign;
+import feign.FeignException;
+import feign.hc5.AsyncApacheHttp5Client;
+import feign.jackson.JacksonEncoder;
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.issue.CreateIssueRequest;
+import org.triplea.github.client.issue.CreateIssueResponse;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/**
+ * Non-blocking client for Github's webservice API. Requests are sent through an NIO based HTTP
+ * client (negotiating HTTP/2 where available), a handful of I/O threads serve any number of
+ * concurrent requests.
+ */
+@Slf4j
+public class ExternalAsyncGithubClient implements AsyncGithubClient {
+  private static final int DEFAULT_IO_THREADS = 2;
+  private static final int DEFAULT_MAX_CONNECTIONS = 20;
+
+  private final CloseableHttpAsyncClient httpClient;
+  private final AsyncGithubService githubApiFeignClient;
+  @Nullable private final Executor callbackExecutor;
+
+  @Getter private final String githubOrganization;
+
+  /**
+   * @param uri The URI for githubs webservice API.
+   * @param authToken Auth token that will be sent to Github for webservice calls. Can be empty, but
+   *     if specified must be valid (no auth token still works, but rate limits will be more
+   *     restrictive).
+   * @param githubOrganization Name of the github org to be queried.
+   * @param ioThreads Number of threads performing network I/O, defaults to 2.
+   * @param maxConnections Max number of open connections to Github, defaults to 20.
+   * @param callbackExecutor Optional executor on which returned futures are completed. Without it
+   *     futures complete on the I/O threads, so callers must not block in their callbacks. See
+   *     {@code newVirtualThreadExecutor} for an executor suited to blocking callbacks.
+   */
+  @Builder
+  public ExternalAsyncGithubClient(
+      @Nonnull URI uri,
+      @Nullable String authToken,
+      @Nonnull String githubOrganization,
+      @Nullable Integer ioThreads,
+      @Nullable Integer maxConnections,
+      @Nullable Executor callbackExecutor) {
+    Preconditions.checkArgument(ioThreads == null || ioThreads > 0);
+    Preconditions.checkArgument(maxConnections == null || maxConnections > 0);
+    final int connections = Optional.ofNullable(maxConnections).orElse(DEFAULT_MAX_CONNECTIONS);
+    httpClient =
+        HttpAsyncClients.custom()
+            .setIOReactorConfig(
+                IOReactorConfig.custom()
+                    .setIoThreadCount(Optional.ofNullable(ioThreads).orElse(DEFAULT_IO_THREADS))
+                    .build())
+            .setConnectionManager(
+                PoolingAsyncClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(connections)
+                    .setMaxConnPerRoute(connections)
+                    .build())
+            .build();
+    httpClient.start();
+
+    githubApiFeignClient =
+        AsyncFeign.<HttpClientContext>builder()
+            .client(new AsyncApacheHttp5Client(httpClient))
+            .encoder(new CreateIssueRequestEncoder(new JacksonEncoder()))
+            .decoder(ExternalGithubClient.responseDecoder())
+            .requestInterceptor(new GithubRequestInterceptor(authToken))
+            .target(AsyncGithubService.class, uri.toString());
+    this.githubOrganization = githubOrganization;
+    this.callbackExecutor = callbackExecutor;
+  }
+
+  /**
+   * Creates an executor that runs each task on a new virtual thread. Virtual threads are available
+   * from Java 21 on, on older JVMs an empty optional is returned.
+   */
+  public static Optional<ExecutorService> newVirtualThreadExecutor() {
+    try {
+      return Optional.of(
+          (ExecutorService)
+              Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public CompletableFuture<CreateIssueResponse> createIssue(
+      final CreateIssueRequest createIssueRequest) {
+    Preconditions.checkNotNull(createIssueRequest);
+    return onCallbackExecutor(
+        githubApiFeignClient.newIssue(
+            githubOrganization, createIssueRequest.getRepo(), createIssueRequest));
+  }
+
+  @Override
+  public CompletableFuture<BranchInfoResponse> fetchBranchInfo(
+      final String repositoryName, final String branchName) {
+    Preconditions.checkNotNull(repositoryName);
+    Preconditions.checkNotNull(branchName);
+    return onCallbackExecutor(
+        githubApiFeignClient.getBranchInfo(githubOrganization, repositoryName, branchName));
+  }
+
+  /**
+   * Lists the repositories of the organization. Once the first page has been received, all
+   * remaining pages (as per the 'Link' header) are requested at once. Without a 'Link' header pages
+   * are requested one after the other until an empty page is received.
+   */
+  @Override
+  public CompletableFuture<Collection<RepositoryListing>> listRepositories() {
+    return onCallbackExecutor(
+        listRepositories(1)
+            .thenCompose(
+                firstPage -> {
+                  final Collection<RepositoryListing> repos =
+                      new HashSet<>(firstPage.getRepositories());
+                  if (firstPage.getLastPage().isPresent()) {
+                    return listRepositoriesConcurrently(2, firstPage.getLastPage().get())
+                        .thenApply(
+                            remaining -> {
+                              repos.addAll(remaining);
+                              return repos;
+                            });
+                  }
+                  return firstPage.getRepositories().isEmpty()
+                      ? CompletableFuture.completedFuture(repos)
+                      : listRepositoriesSequentially(2, repos);
+                }));
+  }
+
+  private CompletableFuture<RepositoryListingPage> listRepositories(final int pageNumber) {
+    return githubApiFeignClient.listRepos(
+        ExternalGithubClient.listingPageQueryParams(pageNumber), githubOrganization);
+  }
+
+  private CompletableFuture<Collection<RepositoryListing>> listRepositoriesConcurrently(
+      final int firstPageNumber, final int lastPageNumber) {
+    final List<CompletableFuture<RepositoryListingPage>> pages =
+        IntStream.rangeClosed(firstPageNumber, lastPageNumber)
+            .mapToObj(this::listRepositories)
+            .collect(Collectors.toList());
+    return CompletableFuture.allOf(pages.toArray(CompletableFuture[]::new))
+        .thenApply(
+            done ->
+                pages.stream()
+                    .map(CompletableFuture::join)
+                    .map(RepositoryListingPage::getRepositories)
+                    .flatMap(Collection::stream)
+                    .collect(Collectors.toSet()));
+  }
+
+  private CompletableFuture<Collection<RepositoryListing>> listRepositoriesSequentially(
+      final int pageNumber, final Collection<RepositoryListing> repos) {
+    return listRepositories(pageNumber)
+        .thenCompose(
+            page -> {
+              if (page.getRepositories().isEmpty()) {
+                return CompletableFuture.completedFuture(repos);
+              }
+              repos.addAll(page.getRepositories());
+              return listRepositoriesSequentially(pageNumber + 1, repos);
+            });
+  }
+
+  @Override
+  public CompletableFuture<Optional<String>> fetchLatestVersion(final String repositoryName) {
+    Preconditions.checkNotNull(repositoryName);
+    return onCallbackExecutor(
+        githubApiFeignClient
+            .getLatestRelease(githubOrganization, repositoryName)
+            .thenApply(release -> Optional.of(release.getTagName()))
+            .exceptionally(
+                e -> {
+                  final Throwable cause =
+                      e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                  if (cause instanceof FeignException.NotFound) {
+                    // 'not found' is an answer from Github (the repository has no release)
+                    log.debug("No release found for repository: {}", repositoryName);
+                  } else {
+                    log.error("No data received from server for latest engine version", e);
+                  }
+                  return Optional.empty();
+                }));
+  }
+
+  /**
+   * Completes a new future on the callback executor, with either outcome of the given future. A
+   * dependent stage such as {@code thenApplyAsync} would pass a failure on without using the
+   * executor.
+   */
+  private <T> CompletableFuture<T> onCallbackExecutor(final CompletableFuture<T> future) {
+    if (callbackExecutor == null) {
+      return future;
+    }
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    future.whenCompleteAsync(
+        (value, e) -> {
+          if (e == null) {
+            result.complete(value);
+          } else {
+            result.completeExceptionally(e);
+          }
+        },
+        callbackExecutor);
+    return result;
+  }
+
+  @Override
+  public void close() {
+    httpClient.close(CloseMode.GRACEFUL);
+  }
+}
@@ -1,16 +1,38 @@
 package org.triplea.github.client;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import feign.Client;
 import feign.Feign;
 import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.Builder;
@@ -19,12 +41,29 @@ import lombok.extern.slf4j.Slf4j;
 import org.triplea.github.client.branch.BranchInfoResponse;
 import org.triplea.github.client.issue.CreateIssueRequest;
 import org.triplea.github.client.issue.CreateIssueResponse;
+import org.triplea.github.client.repo.LatestReleaseResponse;
 import org.triplea.github.client.repo.RepositoryListing;
 
 /** Can be used to interact with Github's webservice API. */
 @Slf4j
-class ExternalGithubClient implements GithubClient {
+public class ExternalGithubClient implements GithubClient {
+  private static final int DEFAULT_BULK_REQUEST_PARALLELISM = 4;
+  private static final int DEFAULT_GRAPHQL_BATCH_SIZE = 50;
+
   private final ExternalGithubService githubApiFeignClient;
+  private final int bulkRequestParallelism;
+  private final int graphqlBatchSize;
+  private final RateLimitTracker rateLimitTracker;
+  @Nullable private final PooledTransport pooledTransport;
+  private final Request.Options requestOptions;
+  private final boolean authenticated;
+  @Nullable private final TimeoutSettings timeoutSettings;
+  /** Timeout of all calls made through a client created by {@link #withTimeout}. */
+  @Nullable private final Duration timeoutOverride;
+
+  @Nullable private final CircuitBreaker latestVersionBreaker;
+  private final AssetDownloader assetDownloader;
+  @Nullable private final TokenPool tokenPool;
 
   @Getter private final String githubOrganization;
 
@@ -34,24 +73,207 @@ class ExternalGithubClient implements GithubClient {
    *     if specified must be valid (no auth token still works, but rate limits will be more
    *     restrictive).
    * @param githubOrganization Name of the github org to be queried.
+   * @param responseCache Optional cache for GET responses. When specified, repeated requests are
+   *     sent as conditional requests and unchanged responses are served from the cache.
+   * @param bulkRequestParallelism Max number of requests a bulk operation (eg: fetching the pages
+   *     of a repository listing) sends concurrently, defaults to 4.
+   * @param rateLimitSettings Optional settings to pace requests according to the Github rate limit.
+   *     Without settings the rate limit is tracked but requests are never delayed.
+   * @param graphqlBatchSize Max number of repositories queried per GraphQL request, defaults to 50.
+   * @param transportSettings Optional settings of a pooled HTTP/2 transport. Without settings each
+   *     request uses the JDK's HttpURLConnection.
+   * @param metricsListener Optional listener that receives the latency, status and size of each
+   *     response, retries and the remaining rate limit budget. No metrics are collected without a
+   *     listener.
+   * @param compressedResponses Whether Github may send gzip or deflate compressed responses, which
+   *     are decompressed while being decoded. Defaults to true.
+   * @param gzipRequestBodies Whether request bodies (eg: new issues) are sent gzip compressed.
+   * @param timeoutSettings Optional per-operation connect and read timeouts. Without settings calls
+   *     use the timeouts of the transport settings, or feign's default timeouts.
+   * @param hedgeDelay Optional delay after which a GET request that has not been answered yet is
+   *     sent a second time, the first response to arrive is used. Disabled if null.
+   * @param authTokens Optional pool of auth tokens to use instead of a single auth token, which
+   *     adds up their rate limit budgets. Each request is sent with the token that has the most
+   *     budget left, exhausted tokens are skipped until their reset and tokens rejected by Github
+   *     are no longer used. {@code getRateLimitStatus} then reports the budget of the token used
+   *     last.
+   * @param latestVersionCircuitBreaker Optional circuit breaker settings of {@code
+   *     fetchLatestVersion}. Once open, {@code fetchLatestVersion} returns an empty result right
+   *     away instead of sending a request. Disabled if null.
    */
   @Builder
   public ExternalGithubClient(
-      @Nonnull URI uri, @Nullable String authToken, @Nonnull String githubOrganization) {
+      @Nonnull URI uri,
+      @Nullable String authToken,
+      @Nonnull String githubOrganization,
+      @Nullable ResponseCache responseCache,
+      @Nullable Integer bulkRequestParallelism,
+      @Nullable RateLimitSettings rateLimitSettings,
+      @Nullable Integer graphqlBatchSize,
+      @Nullable TransportSettings transportSettings,
+      @Nullable GithubMetricsListener metricsListener,
+      @Nullable Boolean compressedResponses,
+      boolean gzipRequestBodies,
+      @Nullable TimeoutSettings timeoutSettings,
+      @Nullable Duration hedgeDelay,
+      @Nullable CircuitBreakerSettings latestVersionCircuitBreaker,
+      @Nullable List<String> authTokens) {
+    Preconditions.checkArgument(bulkRequestParallelism == null || bulkRequestParallelism > 0);
+    Preconditions.checkArgument(hedgeDelay == null || !hedgeDelay.isNegative());
+    Preconditions.checkArgument(graphqlBatchSize == null || graphqlBatchSize > 0);
+    Preconditions.checkArgument(
+        authToken == null || authTokens == null, "Either an auth token or a pool of tokens");
+    rateLimitTracker = new RateLimitTracker();
+    tokenPool = authTokens == null ? null : new TokenPool(authTokens);
+    authenticated = authToken != null || tokenPool != null;
+    pooledTransport = transportSettings == null ? null : new PooledTransport(transportSettings);
+    final GithubMetricsListener listener =
+        Optional.ofNullable(metricsListener).orElse(GithubMetricsListener.NO_OP);
+    Client client =
+        pooledTransport == null ? new Client.Default(null, null) : pooledTransport.client();
+    if (pooledTransport != null && gzipRequestBodies) {
+      client = new GzipRequestClient(client);
+    }
+    if (listener != GithubMetricsListener.NO_OP) {
+      client = new MetricsClient(client, listener);
+    }
+    final RateLimitSettings rateLimits =
+        Optional.ofNullable(rateLimitSettings).orElse(RateLimitSettings.UNTHROTTLED);
+    if (tokenPool != null) {
+      client = new TokenPoolClient(client, tokenPool, rateLimits);
+    }
+    client =
+        new RateLimitedClient(client, rateLimitTracker, rateLimits, listener, tokenPool != null);
+    if (hedgeDelay != null) {
+      client = new HedgingClient(client, hedgeDelay);
+    }
+    Decoder decoder = responseDecoder();
+    if (responseCache != null) {
+      client = new ConditionalRequestClient(client, responseCache);
+      decoder = new CachingDecoder(decoder, responseCache);
+    }
+
+    requestOptions =
+        transportSettings == null
+            ? new Request.Options()
+            : PooledTransport.requestOptions(transportSettings);
+
     githubApiFeignClient =
         Feign.builder()
-            .encoder(new JacksonEncoder())
-            .decoder(new JacksonDecoder())
+            .client(client)
+            .encoder(new CreateIssueRequestEncoder(new JacksonEncoder()))
+            .decoder(decoder)
             .requestInterceptor(
-                requestTemplate -> {
-                  requestTemplate.header("Content-Type", "application/json");
-                  requestTemplate.header("Accept", "application/json");
-                  if (authToken != null) {
-                    requestTemplate.header("Authorization", "token " + authToken);
-                  }
-                })
+                new GithubRequestInterceptor(
+                    authToken,
+                    acceptEncoding(
+                        pooledTransport != null,
+                        Optional.ofNullable(compressedResponses).orElse(true)),
+                    pooledTransport == null && gzipRequestBodies))
             .target(ExternalGithubService.class, uri.toString());
     this.githubOrganization = githubOrganization;
+    this.timeoutSettings = timeoutSettings;
+    timeoutOverride = null;
+    latestVersionBreaker =
+        latestVersionCircuitBreaker == null
+            ? null
+            : new CircuitBreaker(latestVersionCircuitBreaker);
+    assetDownloader = new AssetDownloader(uri, authToken, tokenPool);
+    this.bulkRequestParallelism =
+        Optional.ofNullable(bulkRequestParallelism).orElse(DEFAULT_BULK_REQUEST_PARALLELISM);
+    this.graphqlBatchSize =
+        Optional.ofNullable(graphqlBatchSize).orElse(DEFAULT_GRAPHQL_BATCH_SIZE);
+  }
+
+  private ExternalGithubClient(
+      final ExternalGithubClient shared,
+      final String githubOrganization,
+      @Nullable final Duration timeoutOverride) {
+    githubApiFeignClient = shared.githubApiFeignClient;
+    bulkRequestParallelism = shared.bulkRequestParallelism;
+    graphqlBatchSize = shared.graphqlBatchSize;
+    rateLimitTracker = shared.rateLimitTracker;
+    pooledTransport = shared.pooledTransport;
+    requestOptions = shared.requestOptions;
+    authenticated = shared.authenticated;
+    timeoutSettings = shared.timeoutSettings;
+    this.githubOrganization = githubOrganization;
+    this.timeoutOverride = timeoutOverride;
+    latestVersionBreaker = shared.latestVersionBreaker;
+    assetDownloader = shared.assetDownloader;
+    tokenPool = shared.tokenPool;
+  }
+
+  /**
+   * Returns a client of another organization that shares the connections, response cache, rate
+   * limit tracking and metrics of this client.
+   */
+  public ExternalGithubClient withOrganization(final String githubOrganization) {
+    Preconditions.checkNotNull(githubOrganization);
+    return githubOrganization.equals(this.githubOrganization)
+        ? this
+        : new ExternalGithubClient(this, githubOrganization, timeoutOverride);
+  }
+
+  /**
+   * Returns a client that applies the given connect and read timeout to all of its calls,
+   * overriding the per-operation timeouts. Shares everything else with this client.
+   *
+   * <p>Like the per-operation timeouts this is not a deadline of the whole call, see {@link
+   * TimeoutSettings}.
+   *
+   * <p>Example: {@code client.withTimeout(Duration.ofSeconds(2)).fetchLatestVersion(repo)}
+   */
+  public ExternalGithubClient withTimeout(final Duration timeout) {
+    Preconditions.checkArgument(!timeout.isNegative() && !timeout.isZero());
+    return new ExternalGithubClient(this, githubOrganization, timeout);
+  }
+
+  /**
+   * Request options of a call, applying the timeout of the operation (or of this client) to the
+   * connect and read timeouts.
+   */
+  private Request.Options options(final Function<TimeoutSettings, Duration> operationTimeout) {
+    final Duration timeout;
+    if (timeoutOverride != null) {
+      timeout = timeoutOverride;
+    } else if (timeoutSettings != null) {
+      timeout =
+          Optional.ofNullable(operationTimeout.apply(timeoutSettings))
+              .orElse(timeoutSettings.getDefaultTimeout());
+    } else {
+      return requestOptions;
+    }
+    return new Request.Options(
+        Math.min(requestOptions.connectTimeoutMillis(), timeout.toMillis()),
+        TimeUnit.MILLISECONDS,
+        timeout.toMillis(),
+        TimeUnit.MILLISECONDS,
+        requestOptions.isFollowRedirects());
+  }
+
+  /**
+   * OkHttp negotiates gzip and decompresses responses by itself as long as no 'Accept-Encoding'
+   * header is set. Feign's default client needs the header, and decompresses gzip and deflate.
+   */
+  @Nullable
+  private static String acceptEncoding(
+      final boolean pooledTransport, final boolean compressedResponses) {
+    if (!compressedResponses) {
+      return "identity";
+    }
+    return pooledTransport ? null : Util.ENCODING_GZIP + ", " + Util.ENCODING_DEFLATE;
+  }
+
+  /**
+   * Creates the decoder for Github responses. The response types we read most often have streaming
+   * decoders that read only the fields we need, other types are decoded by Jackson.
+   */
+  static Decoder responseDecoder() {
+    return new TypeDispatchingDecoder(new JacksonDecoder())
+        .register(BranchInfoResponse.class, new BranchInfoDecoder())
+        .register(LatestReleaseResponse.class, new LatestReleaseDecoder())
+        .register(RepositoryListingPage.class, new RepositoryListingPageDecoder());
   }
 
   /**
@@ -65,12 +287,18 @@ class ExternalGithubClient implements GithubClient {
   public CreateIssueResponse createIssue(CreateIssueRequest createIssueRequest) {
     Preconditions.checkNotNull(createIssueRequest);
     return githubApiFeignClient.newIssue(
-        githubOrganization, createIssueRequest.getRepo(), createIssueRequest);
+        githubOrganization,
+        createIssueRequest.getRepo(),
+        createIssueRequest,
+        options(TimeoutSettings::getCreateIssue));
   }
 
   /**
    * Returns a listing of the repositories within a Github organization. This call handles paging,
-   * it returns a complete list and may perform multiple calls to Github.
+   * it returns a complete list and may perform multiple calls to Github. The number of pages is
+   * read from the 'Link' header of the first page, remaining pages are then fetched concurrently.
+   * If Github does not send a 'Link' header, pages are fetched one at a time until an empty page is
+   * received.
    *
    * <p>Example equivalent cUrl call:
    *
@@ -78,41 +306,263 @@ class ExternalGithubClient implements GithubClient {
    */
   @Override
   public Collection<RepositoryListing> listRepositories() {
-    final Collection<RepositoryListing> allRepos = new HashSet<>();
-    int pageNumber = 1;
-    Collection<RepositoryListing> repos = listRepositories(pageNumber);
-    while (!repos.isEmpty()) {
-      pageNumber++;
-      allRepos.addAll(repos);
-      repos = listRepositories(pageNumber);
+    final RepositoryListingPage firstPage = listRepositories(1);
+    final Collection<RepositoryListing> allRepos = new HashSet<>(firstPage.getRepositories());
+
+    if (firstPage.getLastPage().isPresent()) {
+      allRepos.addAll(listRepositoriesConcurrently(2, firstPage.getLastPage().get()));
+    } else if (!firstPage.getRepositories().isEmpty()) {
+      int pageNumber = 2;
+      Collection<RepositoryListing> repos = listRepositories(pageNumber).getRepositories();
+      while (!repos.isEmpty()) {
+        pageNumber++;
+        allRepos.addAll(repos);
+        repos = listRepositories(pageNumber).getRepositories();
+      }
     }
     return allRepos;
   }
 
-  private Collection<RepositoryListing> listRepositories(int pageNumber) {
+  private Collection<RepositoryListing> listRepositoriesConcurrently(
+      final int firstPageNumber, final int lastPageNumber) {
+    final List<Supplier<RepositoryListingPage>> pageRequests =
+        IntStream.rangeClosed(firstPageNumber, lastPageNumber)
+            .mapToObj(
+                pageNumber -> (Supplier<RepositoryListingPage>) () -> listRepositories(pageNumber))
+            .collect(Collectors.toList());
+
+    return BulkRequests.invokeAll(pageRequests, bulkRequestParallelism, "github-repo-listing-%d")
+        .stream()
+        .map(RepositoryListingPage::getRepositories)
+        .flatMap(Collection::stream)
+        .collect(Collectors.toSet());
+  }
+
+  private RepositoryListingPage listRepositories(int pageNumber) {
+    return githubApiFeignClient.listRepos(
+        listingPageQueryParams(pageNumber),
+        githubOrganization,
+        options(TimeoutSettings::getListRepositories));
+  }
+
+  static Map<String, String> listingPageQueryParams(int pageNumber) {
     final Map<String, String> queryParams = new HashMap<>();
     queryParams.put("per_page", "100");
     queryParams.put("page", String.valueOf(pageNumber));
+    return queryParams;
+  }
+
+  @Override
+  public Stream<RepositoryListing> streamRepositories() {
+    final RepositoryListingIterator iterator =
+        new RepositoryListingIterator(this::listRepositoriesResponse);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(iterator::close);
+  }
+
+  /**
+   * Requests a listing page as a raw response.
+   *
+   * @throws FeignException thrown if a non-2xx response is received
+   */
+  private Response listRepositoriesResponse(int pageNumber) {
+    final Response response =
+        githubApiFeignClient.listReposResponse(
+            listingPageQueryParams(pageNumber),
+            githubOrganization,
+            options(TimeoutSettings::getListRepositories));
+    if (response.status() / 100 != 2) {
+      final FeignException exception =
+          FeignException.errorStatus("ExternalGithubService#listReposResponse", response);
+      response.close();
+      throw exception;
+    }
+    return response;
+  }
+
+  /** Returns the usage and budget of each token of the auth token pool, empty without a pool. */
+  public List<AuthTokenStats> getAuthTokenStats() {
+    return tokenPool == null ? List.of() : tokenPool.stats();
+  }
 
-    return githubApiFeignClient.listRepos(queryParams, githubOrganization);
+  @Override
+  public Optional<RateLimitStatus> getRateLimitStatus() {
+    return rateLimitTracker.getStatus(RateLimitTracker.CORE_RESOURCE);
+  }
+
+  /** Returns statistics of the connection pool, empty unless a pooled transport is configured. */
+  public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+    return Optional.ofNullable(pooledTransport).map(PooledTransport::stats);
   }
 
   @Override
   public BranchInfoResponse fetchBranchInfo(String repoName, String branchName) {
     Preconditions.checkNotNull(repoName);
     Preconditions.checkNotNull(branchName);
-    return githubApiFeignClient.getBranchInfo(githubOrganization, repoName, branchName);
+    return githubApiFeignClient.getBranchInfo(
+        githubOrganization, repoName, branchName, options(TimeoutSettings::getFetchBranchInfo));
+  }
+
+  @Override
+  public Map<String, BranchInfoResponse> fetchBranchInfos(
+      Map<String, String> branchNameByRepositoryName) {
+    Preconditions.checkNotNull(branchNameByRepositoryName);
+    final List<Supplier<Map<String, BranchInfoResponse>>> batchRequests =
+        Lists.partition(new ArrayList<>(branchNameByRepositoryName.entrySet()), graphqlBatchSize)
+            .stream()
+            .map(batch -> (Supplier<Map<String, BranchInfoResponse>>) () -> fetchBranchInfos(batch))
+            .collect(Collectors.toList());
+
+    final Map<String, BranchInfoResponse> branchInfos = new HashMap<>();
+    BulkRequests.invokeAll(batchRequests, bulkRequestParallelism, "github-branch-info-%d")
+        .forEach(branchInfos::putAll);
+    return branchInfos;
+  }
+
+  private Map<String, BranchInfoResponse> fetchBranchInfos(List<Map.Entry<String, String>> batch) {
+    return BranchInfoQuery.parse(
+        batch,
+        githubApiFeignClient.graphql(
+            BranchInfoQuery.build(githubOrganization, batch),
+            options(TimeoutSettings::getFetchBranchInfos)));
   }
 
   @Override
   public Optional<String> fetchLatestVersion(String repoName) {
     Preconditions.checkNotNull(repoName);
+    if (latestVersionBreaker != null && !latestVersionBreaker.tryAcquire(Instant.now())) {
+      return Optional.empty();
+    }
     try {
-      return Optional.of(
-          githubApiFeignClient.getLatestRelease(githubOrganization, repoName).getTagName());
+      final String tagName =
+          githubApiFeignClient
+              .getLatestRelease(
+                  githubOrganization, repoName, options(TimeoutSettings::getFetchLatestVersion))
+              .getTagName();
+      recordLatestVersionOutcome(true);
+      return Optional.of(tagName);
     } catch (final FeignException e) {
-      log.error("No data received from server for latest engine version", e);
+      // 'not found' is an answer from Github (the repository has no release), not an outage
+      if (e instanceof FeignException.NotFound) {
+        recordLatestVersionOutcome(true);
+        log.debug("No release found for repository: {}", repoName);
+      } else {
+        recordLatestVersionOutcome(false);
+        log.error("No data received from server for latest engine version", e);
+      }
       return Optional.empty();
+    } catch (final RuntimeException e) {
+      recordLatestVersionOutcome(false);
+      throw e;
+    }
+  }
+
+  /**
+   * Downloads the zip archive of a repository at a branch, tag or commit. The archive is streamed
+   * into a '.part' file next to the target, which replaces the target once complete. An interrupted
+   * download is continued when called again with the same target, unless the archive changed.
+   *
+   * @throws IOException Thrown if the download fails or Github answers with an error status.
+   */
+  public DownloadResult downloadRepositoryArchive(
+      final String repoName, final String ref, final Path target) throws IOException {
+    Preconditions.checkNotNull(repoName);
+    Preconditions.checkNotNull(ref);
+    return assetDownloader.download(
+        assetDownloader.archiveUri(githubOrganization, repoName, ref), target, null);
+  }
+
+  /**
+   * Downloads a release asset, streaming it into a '.part' file next to the target, which replaces
+   * the target once complete. An interrupted download is continued when called again with the same
+   * target, unless the asset changed.
+   *
+   * @param assetUri Either the API URL of the asset ('url' of a release asset) or its
+   *     'browser_download_url'.
+   * @param expectedSha256 Optional hex encoded SHA-256 checksum of the asset. If the download does
+   *     not match, the download is deleted and an exception is thrown.
+   * @throws IOException Thrown if the download fails, Github answers with an error status or the
+   *     checksum does not match.
+   */
+  public DownloadResult downloadReleaseAsset(
+      final URI assetUri, final Path target, @Nullable final String expectedSha256)
+      throws IOException {
+    return assetDownloader.download(assetUri, target, expectedSha256);
+  }
+
+  private void recordLatestVersionOutcome(final boolean success) {
+    if (latestVersionBreaker == null) {
+      return;
+    } else if (success) {
+      latestVersionBreaker.recordSuccess();
+    } else {
+      latestVersionBreaker.recordFailure(Instant.now());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>With an auth token, releases are looked up through GraphQL in batches of repositories.
+   * Without a token each repository is looked up through the REST API, which answers 'not found'
+   * both for a repository without releases and for a repository that does not exist. Both are then
+   * reported as {@code NO_RELEASE}.
+   */
+  @Override
+  public Map<String, LatestVersionResult> fetchLatestVersions(Collection<String> repositoryNames) {
+    Preconditions.checkNotNull(repositoryNames);
+    final List<String> names = List.copyOf(new LinkedHashSet<>(repositoryNames));
+
+    final List<Supplier<Map<String, LatestVersionResult>>> requests =
+        authenticated
+            ? Lists.partition(names, graphqlBatchSize).stream()
+                .map(
+                    batch ->
+                        (Supplier<Map<String, LatestVersionResult>>)
+                            () -> fetchLatestVersions(batch))
+                .collect(Collectors.toList())
+            : names.stream()
+                .map(
+                    name ->
+                        (Supplier<Map<String, LatestVersionResult>>)
+                            () -> Map.of(name, fetchLatestVersionResult(name)))
+                .collect(Collectors.toList());
+
+    final Map<String, LatestVersionResult> results = new HashMap<>();
+    BulkRequests.invokeAll(requests, bulkRequestParallelism, "github-latest-release-%d")
+        .forEach(results::putAll);
+    return results;
+  }
+
+  private Map<String, LatestVersionResult> fetchLatestVersions(final List<String> batch) {
+    try {
+      return LatestReleaseQuery.parse(
+          batch,
+          githubApiFeignClient.graphql(
+              LatestReleaseQuery.build(githubOrganization, batch),
+              options(TimeoutSettings::getFetchLatestVersion)));
+    } catch (final FeignException | IllegalStateException e) {
+      log.warn("Failed to fetch latest releases of: " + batch, e);
+      final Map<String, LatestVersionResult> results = new HashMap<>();
+      batch.forEach(name -> results.put(name, LatestVersionResult.error(e.getMessage())));
+      return results;
+    }
+  }
+
+  private LatestVersionResult fetchLatestVersionResult(final String repoName) {
+    try {
+      return LatestVersionResult.found(
+          githubApiFeignClient
+              .getLatestRelease(
+                  githubOrganization, repoName, options(TimeoutSettings::getFetchLatestVersion))
+              .getTagName());
+    } catch (final FeignException.NotFound e) {
+      return LatestVersionResult.noRelease();
+    } catch (final FeignException e) {
+      return LatestVersionResult.error(e.getMessage());
     }
   }
 }
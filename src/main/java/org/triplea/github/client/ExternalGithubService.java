@@ -2,17 +2,22 @@ package org.triplea.github.client;
 
 import com.google.common.annotations.VisibleForTesting;
 import feign.FeignException;
+import feign.Headers;
 import feign.Param;
 import feign.QueryMap;
+import feign.Request;
 import feign.RequestLine;
-import java.util.List;
+import feign.Response;
 import java.util.Map;
 import org.triplea.github.client.branch.BranchInfoResponse;
 import org.triplea.github.client.issue.CreateIssueRequest;
 import org.triplea.github.client.issue.CreateIssueResponse;
 import org.triplea.github.client.repo.LatestReleaseResponse;
-import org.triplea.github.client.repo.RepositoryListing;
 
+/**
+ * Feign interface of the Github web-API. Each method takes the request options (timeouts) of the
+ * call, so that timeouts can be set per operation and per call.
+ */
 @SuppressWarnings("InterfaceNeverImplemented")
 interface ExternalGithubService {
 
@@ -20,6 +25,7 @@ interface ExternalGithubService {
   @VisibleForTesting String LIST_REPOS_PATH = "/orgs/{org}/repos";
   @VisibleForTesting String BRANCHES_PATH = "/repos/{org}/{repo}/branches/{branch}";
   @VisibleForTesting String LATEST_RELEASE_PATH = "/repos/{org}/{repo}/releases/latest";
+  @VisibleForTesting String GRAPHQL_PATH = "/graphql";
 
   /**
    * Creates a new issue on github.com.
@@ -28,16 +34,40 @@ interface ExternalGithubService {
    */
   @RequestLine("POST " + CREATE_ISSUE_PATH)
   CreateIssueResponse newIssue(
-      @Param("org") String org, @Param("repo") String repo, CreateIssueRequest createIssueRequest);
+      @Param("org") String org,
+      @Param("repo") String repo,
+      CreateIssueRequest createIssueRequest,
+      Request.Options options);
 
   @RequestLine("GET " + BRANCHES_PATH)
   BranchInfoResponse getBranchInfo(
-      @Param("org") String org, @Param("repo") String repo, @Param("branch") String branch);
+      @Param("org") String org,
+      @Param("repo") String repo,
+      @Param("branch") String branch,
+      Request.Options options);
 
   @RequestLine("GET " + LATEST_RELEASE_PATH)
-  LatestReleaseResponse getLatestRelease(@Param("org") String org, @Param("repo") String repo);
+  LatestReleaseResponse getLatestRelease(
+      @Param("org") String org, @Param("repo") String repo, Request.Options options);
 
   @RequestLine("GET " + LIST_REPOS_PATH)
-  List<RepositoryListing> listRepos(
-      @QueryMap Map<String, String> queryParams, @Param("org") String org);
+  RepositoryListingPage listRepos(
+      @QueryMap Map<String, String> queryParams, @Param("org") String org, Request.Options options);
+
+  /**
+   * Same request as {@code listRepos} but returns the raw response so that the body can be consumed
+   * as a stream. Response caching is disabled as the body is never decoded.
+   */
+  @RequestLine("GET " + LIST_REPOS_PATH)
+  @Headers("Cache-Control: no-cache")
+  Response listReposResponse(
+      @QueryMap Map<String, String> queryParams, @Param("org") String org, Request.Options options);
+
+  /**
+   * Runs a query against Github's GraphQL API, requires an auth token.
+   *
+   * @throws FeignException Thrown on non-2xx responses.
+   */
+  @RequestLine("POST " + GRAPHQL_PATH)
+  GraphqlResponse graphql(GraphqlRequest graphqlRequest, Request.Options options);
 }
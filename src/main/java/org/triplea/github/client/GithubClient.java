@@ -1,12 +1,18 @@
 package org.triplea.github.client;
 
 import com.google.common.base.Preconditions;
+import feign.FeignException;
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.triplea.github.client.branch.BranchInfoResponse;
 import org.triplea.github.client.issue.CreateIssueRequest;
 import org.triplea.github.client.issue.CreateIssueResponse;
+import org.triplea.github.client.repo.RepositoryIndex;
 import org.triplea.github.client.repo.RepositoryListing;
 
 @SuppressWarnings("unused")
@@ -26,10 +32,98 @@ public interface GithubClient {
    */
   BranchInfoResponse fetchBranchInfo(String repositoryName, String branchName);
 
+  /**
+   * Bulk variant of {@code fetchBranchInfo}. Branches are queried through Github's GraphQL API with
+   * many repositories per request, which costs a fraction of the round trips and rate limit points
+   * of fetching each branch individually. Requires an auth token.
+   *
+   * <p>The default implementation calls {@code fetchBranchInfo} for each branch.
+   *
+   * @param branchNameByRepositoryName Branch to be queried for each repository.
+   * @return Branch info by repository name. Repositories or branches that do not exist are absent.
+   */
+  default Map<String, BranchInfoResponse> fetchBranchInfos(
+      Map<String, String> branchNameByRepositoryName) {
+    final Map<String, BranchInfoResponse> branchInfos = new HashMap<>();
+    branchNameByRepositoryName.forEach(
+        (repositoryName, branchName) -> {
+          try {
+            branchInfos.put(repositoryName, fetchBranchInfo(repositoryName, branchName));
+          } catch (final FeignException.NotFound e) {
+            // absent from the result
+          }
+        });
+    return branchInfos;
+  }
+
   Collection<RepositoryListing> listRepositories();
 
+  /**
+   * Lists the repositories of the organization into an immutable index, for fast lookup by name and
+   * prefix search.
+   */
+  default RepositoryIndex indexRepositories() {
+    return RepositoryIndex.of(listRepositories());
+  }
+
+  /**
+   * Lazily lists the repositories of the organization. Listing pages are requested only as the
+   * stream is consumed and each page is parsed incrementally, so the first repositories are
+   * available before later pages are fetched. The stream should be closed (eg: try-with-resources)
+   * when not fully consumed to release the underlying connection.
+   *
+   * <p>The default implementation streams the result of {@code listRepositories}, which is not
+   * lazy.
+   */
+  default Stream<RepositoryListing> streamRepositories() {
+    return listRepositories().stream();
+  }
+
   Optional<String> fetchLatestVersion(String repositoryName);
 
+  /**
+   * Bulk variant of {@code fetchLatestVersion}, looks up the latest release of many repositories
+   * with bounded concurrency. Unlike {@code fetchLatestVersion}, failed lookups are reported per
+   * repository rather than being indistinguishable from a repository without releases.
+   *
+   * <p>The default implementation calls {@code fetchLatestVersion} for each repository, one after
+   * the other. It can not tell a failed lookup from a repository without releases, both are
+   * reported as {@code NO_RELEASE}.
+   *
+   * @return Lookup result by repository name, one for each of the given repositories.
+   */
+  default Map<String, LatestVersionResult> fetchLatestVersions(Collection<String> repositoryNames) {
+    final Map<String, LatestVersionResult> results = new HashMap<>();
+    for (final String repositoryName : repositoryNames) {
+      results.put(
+          repositoryName,
+          fetchLatestVersion(repositoryName)
+              .map(LatestVersionResult::found)
+              .orElseGet(LatestVersionResult::noRelease));
+    }
+    return results;
+  }
+
+  /** Looks up the latest release of every repository of the organization. */
+  default Map<String, LatestVersionResult> fetchLatestVersionsOfOrganization() {
+    return fetchLatestVersions(
+        listRepositories().stream().map(RepositoryListing::getName).collect(Collectors.toList()));
+  }
+
+  /**
+   * Returns the rate limit budget of the Github REST API as reported with the most recent response,
+   * empty if no response with rate limit info has been received yet. The default implementation
+   * does not track the rate limit and always returns empty.
+   */
+  default Optional<RateLimitStatus> getRateLimitStatus() {
+    return Optional.empty();
+  }
+
+  /**
+   * Creates a client of the 'triplea-game' organization. Use {@code
+   * MultiOrgGithubClient.buildForTriplea} instead to serve several organizations with one shared
+   * connection pool and rate limit budget.
+   */
   static GithubClient buildClientForTripleaGame(String authToken) {
     Preconditions.checkNotNull(authToken);
     return ExternalGithubClient.builder()
@@ -0,0 +1,47 @@
+package org.triplea.github.client;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Receives metrics of the requests sent by {@code ExternalGithubClient}. Endpoints are named after
+ * the methods of {@code ExternalGithubService}, eg: 'newIssue', 'getBranchInfo',
+ * 'getLatestRelease', 'listRepos'. Every method has an empty default implementation, so a listener
+ * implements only what it needs.
+ *
+ * <p>Methods are called on the thread that sends the request and should return quickly. {@code
+ * GithubMetricsRecorder} is a ready-made implementation that keeps latency histograms and counters
+ * in memory.
+ */
+public interface GithubMetricsListener {
+  /** Listener that ignores everything. Clients configured with it skip metrics collection. */
+  GithubMetricsListener NO_OP = new GithubMetricsListener() {};
+
+  /**
+   * Called when Github answered a request. Each attempt of a retried request is reported.
+   *
+   * @param latency Time from sending the request until the response headers were received.
+   * @param responseBytes Response body length as announced by Github, -1 if not known up front (eg:
+   *     a chunked response).
+   */
+  default void requestCompleted(
+      String endpoint, int status, Duration latency, long responseBytes) {}
+
+  /** Called when a request failed without a response, eg: a connection or read timeout. */
+  default void requestFailed(String endpoint, Duration latency, IOException exception) {}
+
+  /**
+   * Called when a request that was rejected by a rate limit is about to be retried.
+   *
+   * @param status Status of the rejected response, 403 or 429.
+   * @param retryDelay Time the client waits before retrying.
+   */
+  default void requestRetried(String endpoint, int status, Duration retryDelay) {}
+
+  /**
+   * Called with the 'X-RateLimit-Remaining' value of each response that has one.
+   *
+   * @param resource The rate limited resource, either 'core' (REST API) or 'graphql'.
+   */
+  default void rateLimitRemaining(String resource, int remaining) {}
+}
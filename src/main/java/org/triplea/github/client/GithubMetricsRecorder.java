@@ -0,0 +1,67 @@
+package org.triplea.github.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics listener that keeps per-endpoint latency histograms, status counts, response sizes and
+ * retry counts in memory, along with the latest remaining rate limit budget of each resource.
+ */
+public class GithubMetricsRecorder implements GithubMetricsListener {
+  private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+  private final Map<String, Integer> rateLimitRemaining = new ConcurrentHashMap<>();
+
+  @Override
+  public void requestCompleted(
+      final String endpoint, final int status, final Duration latency, final long responseBytes) {
+    final EndpointMetrics metrics = metrics(endpoint);
+    metrics.getLatency().record(latency);
+    metrics.recordResponse(status, responseBytes);
+  }
+
+  @Override
+  public void requestFailed(
+      final String endpoint, final Duration latency, final IOException exception) {
+    final EndpointMetrics metrics = metrics(endpoint);
+    metrics.getLatency().record(latency);
+    metrics.recordFailure();
+  }
+
+  @Override
+  public void requestRetried(final String endpoint, final int status, final Duration retryDelay) {
+    metrics(endpoint).recordRetry();
+  }
+
+  @Override
+  public void rateLimitRemaining(final String resource, final int remaining) {
+    rateLimitRemaining.put(resource, remaining);
+  }
+
+  private EndpointMetrics metrics(final String endpoint) {
+    return endpoints.computeIfAbsent(endpoint, e -> new EndpointMetrics());
+  }
+
+  /** Names of the endpoints that were called, sorted. */
+  public Set<String> getEndpoints() {
+    return new TreeSet<>(endpoints.keySet());
+  }
+
+  public Optional<EndpointMetrics> getEndpointMetrics(final String endpoint) {
+    return Optional.ofNullable(endpoints.get(endpoint));
+  }
+
+  /**
+   * Latest remaining rate limit budget of a resource, 'core' or 'graphql'. Empty if no response
+   * reported it yet.
+   */
+  public OptionalInt getRateLimitRemaining(final String resource) {
+    final Integer remaining = rateLimitRemaining.get(resource);
+    return remaining == null ? OptionalInt.empty() : OptionalInt.of(remaining);
+  }
+}
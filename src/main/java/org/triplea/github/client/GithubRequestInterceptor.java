@@ -0,0 +1,41 @@
+package org.triplea.github.client;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import feign.Util;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+
+/**
+ * Adds the JSON content headers and, if available, the auth token to every request. Optionally sets
+ * the accepted response encodings and marks request bodies to be sent gzip compressed, for use with
+ * a transport that decompresses responses and compresses marked request bodies (feign's default
+ * client does both).
+ */
+@AllArgsConstructor
+class GithubRequestInterceptor implements RequestInterceptor {
+  @Nullable private final String authToken;
+  /** Value of the 'Accept-Encoding' header, null to leave the header to the transport. */
+  @Nullable private final String acceptEncoding;
+
+  private final boolean gzipRequestBodies;
+
+  GithubRequestInterceptor(@Nullable final String authToken) {
+    this(authToken, null, false);
+  }
+
+  @Override
+  public void apply(final RequestTemplate requestTemplate) {
+    requestTemplate.header("Content-Type", "application/json");
+    requestTemplate.header("Accept", "application/json");
+    if (authToken != null) {
+      requestTemplate.header("Authorization", "token " + authToken);
+    }
+    if (acceptEncoding != null) {
+      requestTemplate.header("Accept-Encoding", acceptEncoding);
+    }
+    if (gzipRequestBodies && requestTemplate.body() != null) {
+      requestTemplate.header(Util.CONTENT_ENCODING, Util.ENCODING_GZIP);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package org.triplea.github.client;
+
+import java.time.Instant;
+import javax.annotation.Nullable;
+
+/**
+ * Receives the Github events delivered to a {@code GithubWebhookReceiver}. Every method has an
+ * empty default implementation, so a listener implements only what it needs. {@code
+ * CachingGithubClient} is a listener that updates its caches with the events.
+ *
+ * <p>Methods are called on the receiver's thread before Github gets its response, they should
+ * return quickly.
+ */
+public interface GithubWebhookListener {
+  /**
+   * Called when commits were pushed to a branch, or a branch was deleted.
+   *
+   * @param headCommitDate Date of the head commit of the branch after the push, null if the branch
+   *     was deleted or the push had no head commit.
+   */
+  default void branchPushed(
+      String repositoryName, String branchName, @Nullable Instant headCommitDate) {}
+
+  /**
+   * Called when a release was published, edited, deleted, etc.
+   *
+   * @param action The action of the event, eg: 'published' or 'deleted'.
+   */
+  default void releaseChanged(String repositoryName, String tagName, String action) {}
+
+  /**
+   * Called when a repository was created, deleted, renamed, archived, etc.
+   *
+   * @param action The action of the event, eg: 'created' or 'renamed'.
+   */
+  default void repositoryChanged(String repositoryName, String action) {}
+}
@@ -0,0 +1,227 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded HTTP server that receives Github webhook deliveries, so that caches can be updated as
+ * soon as something changes instead of polling Github. Deliveries are authenticated with the
+ * 'X-Hub-Signature-256' header (an HMAC-SHA256 of the body keyed with the webhook secret),
+ * deliveries without a valid signature are rejected with 401.
+ *
+ * <p>Push, release and repository events are passed on to the listeners, other events (eg: 'ping')
+ * are acknowledged and ignored. The webhook is set up on Github with content type
+ * 'application/json' and the URL of this receiver, eg: 'https://example.org:8090/github-webhook'.
+ */
+@Slf4j
+public class GithubWebhookReceiver implements Closeable {
+  static final String SIGNATURE_HEADER = "X-Hub-Signature-256";
+  static final String EVENT_HEADER = "X-GitHub-Event";
+  /** Github does not deliver payloads larger than 25 MB. */
+  private static final int MAX_PAYLOAD_BYTES = 25 * 1024 * 1024;
+
+  private static final String BRANCH_REF_PREFIX = "refs/heads/";
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final String path;
+  private final byte[] secret;
+  @Nullable private final String githubOrganization;
+  private final List<GithubWebhookListener> listeners;
+
+  /**
+   * Creates and starts a receiver.
+   *
+   * @param port Port to listen on, an ephemeral port is picked if 0 or null.
+   * @param path Path the webhook is delivered to, defaults to '/github-webhook'.
+   * @param secret The secret configured for the webhook on Github.
+   * @param githubOrganization Optional organization whose events are passed on, events of
+   *     repositories of other owners are ignored. All events are passed on if null.
+   * @param listeners Receive the events.
+   */
+  @Builder
+  public GithubWebhookReceiver(
+      @Nullable Integer port,
+      @Nullable String path,
+      @Nonnull String secret,
+      @Nullable String githubOrganization,
+      @Nonnull List<GithubWebhookListener> listeners)
+      throws IOException {
+    Preconditions.checkArgument(!secret.isEmpty());
+    this.path = Optional.ofNullable(path).orElse("/github-webhook");
+    this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    this.githubOrganization = githubOrganization;
+    this.listeners = List.copyOf(listeners);
+
+    server = HttpServer.create(new InetSocketAddress(Optional.ofNullable(port).orElse(0)), 0);
+    server.createContext(this.path, this::handle);
+    executor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("github-webhook-receiver-%d")
+                .build());
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /** URI webhooks are delivered to, with 'localhost' as host. */
+  public URI getUri() {
+    return URI.create("http://localhost:" + getPort() + path);
+  }
+
+  private void handle(final HttpExchange exchange) throws IOException {
+    try {
+      exchange.sendResponseHeaders(respond(exchange), -1);
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /** Handles a delivery and returns the status of the response. */
+  private int respond(final HttpExchange exchange) throws IOException {
+    if (!"POST".equals(exchange.getRequestMethod())) {
+      return 405;
+    }
+    final byte[] payload;
+    try (InputStream body = exchange.getRequestBody()) {
+      payload = ByteStreams.toByteArray(ByteStreams.limit(body, MAX_PAYLOAD_BYTES + 1L));
+    }
+    if (payload.length > MAX_PAYLOAD_BYTES) {
+      return 413;
+    }
+    if (!hasValidSignature(exchange.getRequestHeaders().getFirst(SIGNATURE_HEADER), payload)) {
+      log.warn("Rejected webhook delivery with missing or invalid signature");
+      return 401;
+    }
+
+    final JsonNode event;
+    try {
+      event = objectMapper.readTree(payload);
+    } catch (final IOException e) {
+      return 400;
+    }
+    final String eventType = exchange.getRequestHeaders().getFirst(EVENT_HEADER);
+    try {
+      dispatch(Optional.ofNullable(eventType).orElse(""), event);
+    } catch (final RuntimeException e) {
+      log.error("Failed to handle webhook event: " + eventType, e);
+      return 500;
+    }
+    return 204;
+  }
+
+  private boolean hasValidSignature(@Nullable final String signatureHeader, final byte[] payload) {
+    if (signatureHeader == null || !signatureHeader.startsWith("sha256=")) {
+      return false;
+    }
+    final byte[] signature;
+    try {
+      signature = BaseEncoding.base16().lowerCase().decode(signatureHeader.substring(7));
+    } catch (final IllegalArgumentException e) {
+      return false;
+    }
+    return MessageDigest.isEqual(signature, sign(secret, payload));
+  }
+
+  /** Computes the HMAC-SHA256 of a payload as sent by Github in the signature header. */
+  static byte[] sign(final byte[] secret, final byte[] payload) {
+    try {
+      final Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+      return mac.doFinal(payload);
+    } catch (final GeneralSecurityException e) {
+      throw new IllegalStateException("HmacSHA256 is not available", e);
+    }
+  }
+
+  private void dispatch(final String eventType, final JsonNode event) {
+    final JsonNode repository = event.path("repository");
+    final String repositoryName = repository.path("name").asText(null);
+    if (repositoryName == null
+        || (githubOrganization != null
+            && !githubOrganization.equalsIgnoreCase(
+                repository.path("owner").path("login").asText()))) {
+      return;
+    }
+
+    switch (eventType) {
+      case "push":
+        final String ref = event.path("ref").asText("");
+        if (ref.startsWith(BRANCH_REF_PREFIX)) {
+          final String branchName = ref.substring(BRANCH_REF_PREFIX.length());
+          final Instant headCommitDate =
+              event.path("deleted").asBoolean()
+                  ? null
+                  : commitDate(event.path("head_commit").path("timestamp").asText(null));
+          listeners.forEach(
+              listener -> listener.branchPushed(repositoryName, branchName, headCommitDate));
+        }
+        break;
+      case "release":
+        final String tagName = event.path("release").path("tag_name").asText(null);
+        final String releaseAction = event.path("action").asText("");
+        if (tagName != null) {
+          listeners.forEach(
+              listener -> listener.releaseChanged(repositoryName, tagName, releaseAction));
+        }
+        break;
+      case "repository":
+        final String repositoryAction = event.path("action").asText("");
+        listeners.forEach(listener -> listener.repositoryChanged(repositoryName, repositoryAction));
+        // a renamed repository is gone under its previous name
+        final String previousName =
+            event.path("changes").path("repository").path("name").path("from").asText(null);
+        if (previousName != null) {
+          listeners.forEach(listener -> listener.repositoryChanged(previousName, repositoryAction));
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  @Nullable
+  private static Instant commitDate(@Nullable final String timestamp) {
+    return timestamp == null ? null : OffsetDateTime.parse(timestamp).toInstant();
+  }
+
+  /** Stops the receiver, deliveries being handled are given a second to complete. */
+  @Override
+  public void close() {
+    server.stop(1);
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,17 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Request body for Github's GraphQL endpoint. */
+@Getter
+@AllArgsConstructor
+class GraphqlRequest {
+  @JsonProperty("query")
+  private final String query;
+
+  @JsonProperty("variables")
+  private final Map<String, Object> variables;
+}
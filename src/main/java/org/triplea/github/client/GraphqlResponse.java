@@ -0,0 +1,35 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response from Github's GraphQL endpoint. A query can partially succeed, in which case both data
+ * and errors are present (eg: a query for several repositories where one does not exist).
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+class GraphqlResponse {
+  @JsonProperty("data")
+  private JsonNode data;
+
+  @JsonProperty("errors")
+  private List<JsonNode> errors;
+
+  /**
+   * Returns the data of the response.
+   *
+   * @throws IllegalStateException Thrown if the query failed and the response holds no data.
+   */
+  JsonNode requireData() {
+    if (data == null || data.isNull()) {
+      throw new IllegalStateException("Github GraphQL query failed, errors: " + errors);
+    }
+    return data;
+  }
+}
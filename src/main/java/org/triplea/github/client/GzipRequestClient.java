@@ -0,0 +1,48 @@
+package org.triplea.github.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+import lombok.AllArgsConstructor;
+
+/**
+ * Decorates a feign client to send request bodies gzip compressed. Meant for transports that do not
+ * compress request bodies themselves (feign's default client does, the OkHttp client does not).
+ */
+@AllArgsConstructor
+class GzipRequestClient implements Client {
+  private final Client delegate;
+
+  @Override
+  public Response execute(final Request request, final Request.Options options) throws IOException {
+    if (request.body() == null || request.headers().containsKey(Util.CONTENT_ENCODING)) {
+      return delegate.execute(request, options);
+    }
+
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream(request.length() / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(request.body());
+    }
+    final Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    headers.remove(Util.CONTENT_LENGTH);
+    headers.put(Util.CONTENT_ENCODING, List.of(Util.ENCODING_GZIP));
+    return delegate.execute(
+        Request.create(
+            request.httpMethod(),
+            request.url(),
+            headers,
+            compressed.toByteArray(),
+            request.charset(),
+            request.requestTemplate()),
+        options);
+  }
+}
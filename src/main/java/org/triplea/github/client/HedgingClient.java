@@ -0,0 +1,107 @@
+package org.triplea.github.client;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorates a feign client to hedge GET requests: when no response arrives within the hedge delay,
+ * the request is sent a second time and whichever response arrives first is used. The other
+ * response is closed once it arrives. Cuts tail latency caused by a single slow Github node at the
+ * cost of an extra request for the slowest calls. Only GET requests are hedged as they are
+ * idempotent.
+ */
+@Slf4j
+class HedgingClient implements Client {
+  private final Client delegate;
+  private final Duration hedgeDelay;
+  private final ExecutorService executor =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("github-hedge-%d").build());
+
+  HedgingClient(final Client delegate, final Duration hedgeDelay) {
+    this.delegate = delegate;
+    this.hedgeDelay = hedgeDelay;
+  }
+
+  @Override
+  public Response execute(final Request request, final Request.Options options) throws IOException {
+    if (request.httpMethod() != Request.HttpMethod.GET) {
+      return delegate.execute(request, options);
+    }
+
+    final CompletionService<Response> attempts = new ExecutorCompletionService<>(executor);
+    // attempts whose response has not been returned, closed once they arrive
+    final List<Future<Response>> outstanding = new ArrayList<>(2);
+    outstanding.add(attempts.submit(() -> delegate.execute(request, options)));
+    try {
+      final Future<Response> fastPrimary =
+          attempts.poll(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+      if (fastPrimary != null) {
+        outstanding.remove(fastPrimary);
+        return result(fastPrimary);
+      }
+
+      outstanding.add(attempts.submit(() -> delegate.execute(request, options)));
+      IOException firstFailure = null;
+      for (int i = 0; i < 2; i++) {
+        final Future<Response> first = attempts.take();
+        outstanding.remove(first);
+        try {
+          return result(first);
+        } catch (final IOException e) {
+          firstFailure = firstFailure == null ? e : firstFailure;
+        }
+      }
+      throw firstFailure;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for Github response");
+    } finally {
+      outstanding.forEach(this::closeWhenDone);
+    }
+  }
+
+  private static Response result(final Future<Response> attempt)
+      throws IOException, InterruptedException {
+    try {
+      return attempt.get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException("Github request failed", e.getCause());
+    }
+  }
+
+  /** Closes the response of an unused attempt, once it arrives, to release its connection. */
+  private void closeWhenDone(final Future<Response> attempt) {
+    executor.execute(
+        () -> {
+          try {
+            attempt.get().close();
+          } catch (final ExecutionException e) {
+            log.debug("Unused hedged request attempt failed", e);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+  }
+}
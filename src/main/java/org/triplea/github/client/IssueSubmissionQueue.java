@@ -0,0 +1,175 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.triplea.github.client.issue.CreateIssueRequest;
+import org.triplea.github.client.issue.CreateIssueResponse;
+
+/**
+ * Queues issues to be created on Github and sends them at a controlled pace. Submitting an issue
+ * never blocks, the caller receives a future of the response instead.
+ *
+ * <p>Identical reports (same repository and title) submitted within the dedup window are merged:
+ * only the first is sent, and every submitter receives a future that completes with that first
+ * issue. Each submitter gets its own future, cancelling it does not affect the other submitters. A
+ * report whose earlier copy failed is sent again.
+ *
+ * <p>When the queue is full, submissions are rejected right away with a future that fails with a
+ * {@code RejectedExecutionException}, rather than piling up or blocking the caller.
+ */
+public class IssueSubmissionQueue implements AutoCloseable {
+  private static final int DEFAULT_CAPACITY = 1000;
+  private static final Duration DEFAULT_DEDUP_WINDOW = Duration.ofMinutes(10);
+  /** Github asks to wait at least a second between requests that create content. */
+  private static final Duration DEFAULT_SEND_INTERVAL = Duration.ofSeconds(1);
+
+  private final GithubClient githubClient;
+  private final BlockingQueue<PendingIssue> queue;
+  private final Cache<String, CompletableFuture<CreateIssueResponse>> recentSubmissions;
+  private final ScheduledExecutorService sender;
+
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder duplicates = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+
+  @AllArgsConstructor
+  private static class PendingIssue {
+    private final CreateIssueRequest request;
+    private final CompletableFuture<CreateIssueResponse> response;
+  }
+
+  /**
+   * @param githubClient Client used to create the issues.
+   * @param capacity Max number of issues waiting to be sent, defaults to 1000.
+   * @param dedupWindow Time during which identical reports are merged, defaults to 10 minutes.
+   * @param sendInterval Time between sending two issues, defaults to 1 second.
+   */
+  @Builder
+  public IssueSubmissionQueue(
+      @Nonnull GithubClient githubClient,
+      @Nullable Integer capacity,
+      @Nullable Duration dedupWindow,
+      @Nullable Duration sendInterval) {
+    Preconditions.checkArgument(capacity == null || capacity > 0);
+    Preconditions.checkArgument(dedupWindow == null || !dedupWindow.isNegative());
+    Preconditions.checkArgument(sendInterval == null || !sendInterval.isNegative());
+    this.githubClient = Preconditions.checkNotNull(githubClient);
+    queue = new LinkedBlockingQueue<>(Optional.ofNullable(capacity).orElse(DEFAULT_CAPACITY));
+    recentSubmissions =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(Optional.ofNullable(dedupWindow).orElse(DEFAULT_DEDUP_WINDOW))
+            .build();
+    sender =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("github-issue-submission-%d")
+                .build());
+    final long intervalMillis =
+        Math.max(1, Optional.ofNullable(sendInterval).orElse(DEFAULT_SEND_INTERVAL).toMillis());
+    sender.scheduleWithFixedDelay(this::sendNext, 0, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queues an issue to be created, or merges it with an identical report submitted within the dedup
+   * window.
+   *
+   * @return Future of the created issue. Fails with the exception thrown by the client if the issue
+   *     could not be created, or with a {@code RejectedExecutionException} if the queue is full.
+   */
+  public CompletableFuture<CreateIssueResponse> submit(final CreateIssueRequest request) {
+    Preconditions.checkNotNull(request);
+    Preconditions.checkState(!sender.isShutdown(), "Issue submission queue is closed");
+
+    final String dedupKey = request.getRepo() + '\n' + request.getTitle();
+    final CompletableFuture<CreateIssueResponse> submission = new CompletableFuture<>();
+    final CompletableFuture<CreateIssueResponse> response =
+        recentSubmissions
+            .asMap()
+            .compute(
+                dedupKey,
+                (key, earlier) ->
+                    earlier == null || earlier.isCompletedExceptionally() ? submission : earlier);
+    if (response != submission) {
+      duplicates.increment();
+      return response.copy();
+    }
+
+    if (!queue.offer(new PendingIssue(request, submission))) {
+      recentSubmissions.asMap().remove(dedupKey, submission);
+      rejected.increment();
+      submission.completeExceptionally(
+          new RejectedExecutionException("Issue submission queue is full"));
+    }
+    return submission.copy();
+  }
+
+  private void sendNext() {
+    final PendingIssue pending = queue.poll();
+    if (pending == null) {
+      return;
+    }
+    try {
+      final CreateIssueResponse response = githubClient.createIssue(pending.request);
+      sent.increment();
+      pending.response.complete(response);
+    } catch (final Throwable e) {
+      // also catches errors, an escaping throwable would stop the sender and strand its submitters
+      pending.response.completeExceptionally(e);
+    }
+  }
+
+  /** Number of issues waiting to be sent. */
+  public int getQueuedCount() {
+    return queue.size();
+  }
+
+  /** Number of issues sent to Github, successfully. */
+  public long getSentCount() {
+    return sent.sum();
+  }
+
+  /** Number of submissions merged with an identical earlier report. */
+  public long getDuplicateCount() {
+    return duplicates.sum();
+  }
+
+  /** Number of submissions rejected because the queue was full. */
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  /**
+   * Stops sending issues. Issues still waiting in the queue are not sent, their futures fail with a
+   * {@code CancellationException}.
+   */
+  @Override
+  public void close() {
+    sender.shutdownNow();
+    final List<PendingIssue> unsent = new ArrayList<>();
+    queue.drainTo(unsent);
+    unsent.forEach(
+        pending ->
+            pending.response.completeExceptionally(
+                new CancellationException("Issue submission queue was closed")));
+  }
+}
@@ -0,0 +1,72 @@
+package org.triplea.github.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Thread safe histogram of request latencies with fixed bucket bounds ranging from 5 milliseconds
+ * to 30 seconds, plus an overflow bucket. Percentiles are approximated by the upper bound of the
+ * bucket they fall into.
+ */
+public class LatencyHistogram {
+  /** Upper bounds (inclusive) of the buckets in milliseconds, the last bucket is unbounded. */
+  public static final List<Long> BUCKET_BOUNDS_MILLIS =
+      List.of(5L, 10L, 25L, 50L, 100L, 250L, 500L, 1000L, 2500L, 5000L, 10000L, 30000L);
+
+  private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.size() + 1];
+  private final LongAdder totalMillis = new LongAdder();
+
+  LatencyHistogram() {
+    Arrays.setAll(buckets, i -> new LongAdder());
+  }
+
+  void record(final Duration latency) {
+    final long millis = latency.toMillis();
+    int bucket = 0;
+    while (bucket < BUCKET_BOUNDS_MILLIS.size() && millis > BUCKET_BOUNDS_MILLIS.get(bucket)) {
+      bucket++;
+    }
+    buckets[bucket].increment();
+    totalMillis.add(millis);
+  }
+
+  /** Number of recorded latencies per bucket, the last element is the overflow bucket. */
+  public List<Long> getBucketCounts() {
+    return Arrays.stream(buckets).map(LongAdder::sum).collect(Collectors.toList());
+  }
+
+  public long getCount() {
+    return Arrays.stream(buckets).mapToLong(LongAdder::sum).sum();
+  }
+
+  public Duration getMean() {
+    final long count = getCount();
+    return count == 0 ? Duration.ZERO : Duration.ofMillis(totalMillis.sum() / count);
+  }
+
+  /**
+   * Returns the upper bound of the bucket that contains the given percentile, zero if nothing was
+   * recorded. Latencies in the overflow bucket are reported as the largest bucket bound.
+   *
+   * @param percentile Percentile between 0 and 100, eg: 99 for the p99 latency.
+   */
+  public Duration getPercentile(final double percentile) {
+    final List<Long> counts = getBucketCounts();
+    final long total = counts.stream().mapToLong(Long::longValue).sum();
+    if (total == 0) {
+      return Duration.ZERO;
+    }
+    final long rank = (long) Math.ceil(total * percentile / 100);
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKET_BOUNDS_MILLIS.size(); bucket++) {
+      seen += counts.get(bucket);
+      if (seen >= rank) {
+        return Duration.ofMillis(BUCKET_BOUNDS_MILLIS.get(bucket));
+      }
+    }
+    return Duration.ofMillis(BUCKET_BOUNDS_MILLIS.get(BUCKET_BOUNDS_MILLIS.size() - 1));
+  }
+}
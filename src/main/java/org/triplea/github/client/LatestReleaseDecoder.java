@@ -0,0 +1,23 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import feign.Response;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.triplea.github.client.repo.LatestReleaseResponse;
+
+/** Decodes a 'latest release' response by reading only the 'tag_name' field. */
+class LatestReleaseDecoder implements Decoder {
+  @Override
+  public Object decode(final Response response, final Type type) throws IOException {
+    try (JsonParser parser = StreamingJson.parserFor(response)) {
+      if (parser == null || parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      return new LatestReleaseResponse(
+          StreamingJson.moveToField(parser, "tag_name") ? parser.getValueAsString() : null);
+    }
+  }
+}
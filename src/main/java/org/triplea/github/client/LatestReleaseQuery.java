@@ -0,0 +1,71 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Builds a GraphQL query that fetches the tag of the latest release for a batch of repositories,
+ * and reads the results from the response. Each repository is queried with an alias ('r0', 'r1',
+ * ...) and names are passed as variables, eg:
+ *
+ * <pre>
+ * query($owner: String!, $repo0: String!) {
+ *   r0: repository(owner: $owner, name: $repo0) { latestRelease { tagName } }
+ * }
+ * </pre>
+ */
+@UtilityClass
+class LatestReleaseQuery {
+
+  static GraphqlRequest build(final String org, final List<String> repositoryNames) {
+    final StringBuilder declarations = new StringBuilder("$owner: String!");
+    final StringBuilder selections = new StringBuilder();
+    final Map<String, Object> variables = new HashMap<>();
+    variables.put("owner", org);
+
+    for (int i = 0; i < repositoryNames.size(); i++) {
+      declarations.append(", $repo").append(i).append(": String!");
+      selections.append(" r").append(i).append(": repository(owner: $owner, name: $repo");
+      selections.append(i).append(") { latestRelease { tagName } }");
+      variables.put("repo" + i, repositoryNames.get(i));
+    }
+    return new GraphqlRequest("query(" + declarations + ") {" + selections + " }", variables);
+  }
+
+  /**
+   * Reads the latest release of each repository of a batch from the query response. A repository
+   * that could not be resolved is reported with the error Github gave for it.
+   */
+  static Map<String, LatestVersionResult> parse(
+      final List<String> repositoryNames, final GraphqlResponse response) {
+    final JsonNode data = response.requireData();
+    final Map<String, String> errorsByAlias = new HashMap<>();
+    if (response.getErrors() != null) {
+      for (final JsonNode error : response.getErrors()) {
+        errorsByAlias.putIfAbsent(
+            error.path("path").path(0).asText(), error.path("message").asText("unknown error"));
+      }
+    }
+
+    final Map<String, LatestVersionResult> results = new HashMap<>();
+    for (int i = 0; i < repositoryNames.size(); i++) {
+      final String alias = "r" + i;
+      final JsonNode repository = data.path(alias);
+      final JsonNode tagName = repository.path("latestRelease").path("tagName");
+      final LatestVersionResult result;
+      if (tagName.isTextual()) {
+        result = LatestVersionResult.found(tagName.asText());
+      } else if (repository.isObject()) {
+        result = LatestVersionResult.noRelease();
+      } else {
+        result =
+            LatestVersionResult.error(errorsByAlias.getOrDefault(alias, "repository not found"));
+      }
+      results.put(repositoryNames.get(i), result);
+    }
+    return results;
+  }
+}
@@ -0,0 +1,54 @@
+package org.triplea.github.client;
+
+import java.util.Optional;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of looking up the latest release of one repository in a bulk lookup. Tells a repository
+ * without releases apart from a lookup that failed.
+ */
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LatestVersionResult {
+  /** Kinds of lookup outcome. */
+  public enum Status {
+    /** The repository has a latest release, its tag is the version. */
+    FOUND,
+    /** The repository exists but has no (published, non pre-release) release. */
+    NO_RELEASE,
+    /** The lookup failed, eg: the repository does not exist or Github could not be reached. */
+    ERROR
+  }
+
+  @Getter private final Status status;
+  @Nullable private final String version;
+  @Nullable private final String error;
+
+  static LatestVersionResult found(final String version) {
+    return new LatestVersionResult(Status.FOUND, version, null);
+  }
+
+  static LatestVersionResult noRelease() {
+    return new LatestVersionResult(Status.NO_RELEASE, null, null);
+  }
+
+  static LatestVersionResult error(final String error) {
+    return new LatestVersionResult(Status.ERROR, null, error);
+  }
+
+  /** Tag name of the latest release, present only if the status is {@code FOUND}. */
+  public Optional<String> getVersion() {
+    return Optional.ofNullable(version);
+  }
+
+  /** Description of the failure, present only if the status is {@code ERROR}. */
+  public Optional<String> getError() {
+    return Optional.ofNullable(error);
+  }
+}
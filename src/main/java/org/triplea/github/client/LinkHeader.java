@@ -0,0 +1,52 @@
+package org.triplea.github.client;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Parses the 'Link' header Github sends with paged responses, eg:
+ *
+ * <pre>
+ * &lt;https://api.github.com/orgs/triplea-maps/repos?per_page=100&amp;page=2&gt;; rel="next",
+ * &lt;https://api.github.com/orgs/triplea-maps/repos?per_page=100&amp;page=4&gt;; rel="last"
+ * </pre>
+ */
+@UtilityClass
+class LinkHeader {
+  static final String HEADER_NAME = "Link";
+
+  private static final Pattern LINK_PATTERN = Pattern.compile("<([^>]*)>\\s*;\\s*rel=\"(\\w+)\"");
+  private static final Pattern PAGE_PARAM_PATTERN = Pattern.compile("[?&]page=(\\d+)");
+
+  /** Returns the page number of the link with relation type 'last', if present. */
+  static Optional<Integer> lastPage(final Collection<String> headerValues) {
+    return pageOfRelation(headerValues, "last");
+  }
+
+  /** Returns the page number of the link with relation type 'next', if present. */
+  static Optional<Integer> nextPage(final Collection<String> headerValues) {
+    return pageOfRelation(headerValues, "next");
+  }
+
+  private static Optional<Integer> pageOfRelation(
+      final Collection<String> headerValues, final String relation) {
+    if (headerValues == null) {
+      return Optional.empty();
+    }
+    for (final String headerValue : headerValues) {
+      final Matcher linkMatcher = LINK_PATTERN.matcher(headerValue);
+      while (linkMatcher.find()) {
+        if (linkMatcher.group(2).equals(relation)) {
+          final Matcher pageMatcher = PAGE_PARAM_PATTERN.matcher(linkMatcher.group(1));
+          return pageMatcher.find()
+              ? Optional.of(Integer.parseInt(pageMatcher.group(1)))
+              : Optional.empty();
+        }
+      }
+    }
+    return Optional.empty();
+  }
+}
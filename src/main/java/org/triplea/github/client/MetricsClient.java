@@ -0,0 +1,50 @@
+package org.triplea.github.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+
+/**
+ * Decorates a feign client to report the latency, status, size and rate limit budget of each
+ * response to a {@code GithubMetricsListener}.
+ */
+@AllArgsConstructor
+class MetricsClient implements Client {
+  private final Client delegate;
+  private final GithubMetricsListener listener;
+
+  @Override
+  public Response execute(final Request request, final Request.Options options) throws IOException {
+    final String endpoint = endpointOf(request);
+    final long start = System.nanoTime();
+    final Response response;
+    try {
+      response = delegate.execute(request, options);
+    } catch (final IOException e) {
+      listener.requestFailed(endpoint, Duration.ofNanos(System.nanoTime() - start), e);
+      throw e;
+    }
+    final Duration latency = Duration.ofNanos(System.nanoTime() - start);
+
+    final Integer bodyLength = response.body() == null ? null : response.body().length();
+    listener.requestCompleted(
+        endpoint, response.status(), latency, bodyLength == null ? -1 : bodyLength);
+
+    final Integer remaining =
+        RateLimitTracker.intHeader(response.headers(), RateLimitTracker.REMAINING_HEADER);
+    if (remaining != null) {
+      listener.rateLimitRemaining(RateLimitTracker.resourceOf(request.url()), remaining);
+    }
+    return response;
+  }
+
+  /** Returns the name of the service method that created the request, eg: 'getBranchInfo'. */
+  static String endpointOf(final Request request) {
+    return request.requestTemplate() == null || request.requestTemplate().methodMetadata() == null
+        ? "unknown"
+        : request.requestTemplate().methodMetadata().method().getName();
+  }
+}
@@ -0,0 +1,106 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/**
+ * Serves any number of Github organizations from a single client stack. The clients of all
+ * organizations share one transport (and its connection pool), response cache, rate limit tracker
+ * and metrics listener, so that requests for one organization know about the budget spent by the
+ * others. Operations can be fanned out to several organizations concurrently.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * MultiOrgGithubClient clients = MultiOrgGithubClient.buildForTriplea(authToken);
+ * GithubClient engine = clients.forOrganization("triplea-game");
+ * GithubClient maps = clients.forOrganization("triplea-maps");
+ * }</pre>
+ */
+public class MultiOrgGithubClient {
+  private static final int DEFAULT_FAN_OUT_PARALLELISM = 4;
+
+  private final ExternalGithubClient sharedClient;
+  private final int fanOutParallelism;
+  private final Map<String, ExternalGithubClient> clients = new ConcurrentHashMap<>();
+
+  /**
+   * @param sharedClient Client whose transport, cache, rate limit tracking and metrics are shared
+   *     by the clients of all organizations. Its own organization is served by this client too.
+   */
+  public MultiOrgGithubClient(final ExternalGithubClient sharedClient) {
+    this(sharedClient, DEFAULT_FAN_OUT_PARALLELISM);
+  }
+
+  /**
+   * @param fanOutParallelism Max number of organizations a fan-out operation calls concurrently.
+   */
+  public MultiOrgGithubClient(
+      final ExternalGithubClient sharedClient, final int fanOutParallelism) {
+    Preconditions.checkArgument(fanOutParallelism > 0);
+    this.sharedClient = Preconditions.checkNotNull(sharedClient);
+    this.fanOutParallelism = fanOutParallelism;
+    clients.put(sharedClient.getGithubOrganization(), sharedClient);
+  }
+
+  /** Creates a client for the 'triplea-game' and 'triplea-maps' organizations, among others. */
+  public static MultiOrgGithubClient buildForTriplea(final String authToken) {
+    Preconditions.checkNotNull(authToken);
+    return new MultiOrgGithubClient(
+        ExternalGithubClient.builder()
+            .uri(URI.create("https://api.github.com"))
+            .authToken(authToken)
+            .githubOrganization("triplea-game")
+            .build());
+  }
+
+  /** Returns the client of an organization, sharing the client stack with all others. */
+  public GithubClient forOrganization(final String githubOrganization) {
+    Preconditions.checkNotNull(githubOrganization);
+    return clients.computeIfAbsent(githubOrganization, sharedClient::withOrganization);
+  }
+
+  /**
+   * Runs an operation against each of the given organizations concurrently.
+   *
+   * @return Result of the operation by organization, in the order of the given organizations.
+   * @throws RuntimeException The first exception (in organization order) thrown by the operation.
+   */
+  public <T> Map<String, T> forEachOrganization(
+      final Collection<String> githubOrganizations, final Function<GithubClient, T> operation) {
+    final List<String> organizations = new ArrayList<>(githubOrganizations);
+    final List<Supplier<T>> calls =
+        organizations.stream()
+            .map(organization -> (Supplier<T>) () -> operation.apply(forOrganization(organization)))
+            .collect(Collectors.toList());
+    final List<T> results = BulkRequests.invokeAll(calls, fanOutParallelism, "github-org-%d");
+
+    final Map<String, T> resultsByOrganization = new LinkedHashMap<>();
+    for (int i = 0; i < organizations.size(); i++) {
+      resultsByOrganization.put(organizations.get(i), results.get(i));
+    }
+    return resultsByOrganization;
+  }
+
+  /** Lists the repositories of several organizations concurrently. */
+  public Map<String, Collection<RepositoryListing>> listRepositories(
+      final Collection<String> githubOrganizations) {
+    return forEachOrganization(githubOrganizations, GithubClient::listRepositories);
+  }
+
+  /** Rate limit budget shared by all organizations, see {@link GithubClient#getRateLimitStatus}. */
+  public Optional<RateLimitStatus> getRateLimitStatus() {
+    return sharedClient.getRateLimitStatus();
+  }
+}
@@ -0,0 +1,16 @@
+package org.triplea.github.client;
+
+import lombok.Value;
+
+/** Counters of the in-memory cache of one operation of a {@code CachingGithubClient}. */
+@Value
+public class OperationCacheStats {
+  /** Number of calls answered from the cache. */
+  long hitCount;
+  /** Number of calls that sent a request to Github. */
+  long missCount;
+  /** Number of calls that waited on an identical call already in flight instead of sending one. */
+  long coalescedCount;
+  /** Number of calls answered with an expired value while the value was refreshed. */
+  long staleHitCount;
+}
@@ -0,0 +1,107 @@
+package org.triplea.github.client;
+
+import feign.Client;
+import feign.Request;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * HTTP transport backed by an OkHttp connection pool. Keeps count of opened and reused connections
+ * so that the effectiveness of the pool can be observed.
+ */
+class PooledTransport {
+  private final ConnectionPool connectionPool;
+  private final OkHttpClient okHttpClient;
+
+  private final LongAdder connectionsOpened = new LongAdder();
+  private final LongAdder tlsHandshakes = new LongAdder();
+  private final LongAdder http2ConnectionsOpened = new LongAdder();
+  private final LongAdder connectionsAcquired = new LongAdder();
+
+  PooledTransport(final TransportSettings settings) {
+    connectionPool =
+        new ConnectionPool(
+            settings.getMaxIdleConnections(),
+            settings.getKeepAlive().toMillis(),
+            TimeUnit.MILLISECONDS);
+    okHttpClient =
+        new OkHttpClient.Builder()
+            .connectionPool(connectionPool)
+            .connectTimeout(settings.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(settings.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .protocols(
+                settings.isHttp2Enabled()
+                    ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                    : List.of(Protocol.HTTP_1_1))
+            .eventListener(new ConnectionCountingListener())
+            .build();
+  }
+
+  /** Feign client sending requests through the connection pool. */
+  Client client() {
+    return new feign.okhttp.OkHttpClient(okHttpClient);
+  }
+
+  /**
+   * Request options matching the transport settings. Feign passes options with each request, the
+   * OkHttp feign client would otherwise override the configured timeouts with feign's defaults.
+   */
+  static Request.Options requestOptions(final TransportSettings settings) {
+    return new Request.Options(
+        settings.getConnectTimeout().toMillis(),
+        TimeUnit.MILLISECONDS,
+        settings.getReadTimeout().toMillis(),
+        TimeUnit.MILLISECONDS,
+        true);
+  }
+
+  ConnectionPoolStats stats() {
+    final long opened = connectionsOpened.sum();
+    return new ConnectionPoolStats(
+        connectionPool.connectionCount(),
+        connectionPool.idleConnectionCount(),
+        opened,
+        tlsHandshakes.sum(),
+        http2ConnectionsOpened.sum(),
+        Math.max(0, connectionsAcquired.sum() - opened));
+  }
+
+  private class ConnectionCountingListener extends EventListener {
+    @Override
+    public void connectStart(
+        final Call call, final InetSocketAddress inetSocketAddress, final Proxy proxy) {
+      connectionsOpened.increment();
+    }
+
+    @Override
+    public void secureConnectEnd(final Call call, final Handshake handshake) {
+      tlsHandshakes.increment();
+    }
+
+    @Override
+    public void connectEnd(
+        final Call call,
+        final InetSocketAddress inetSocketAddress,
+        final Proxy proxy,
+        final Protocol protocol) {
+      if (protocol == Protocol.HTTP_2) {
+        http2ConnectionsOpened.increment();
+      }
+    }
+
+    @Override
+    public void connectionAcquired(final Call call, final Connection connection) {
+      connectionsAcquired.increment();
+    }
+  }
+}
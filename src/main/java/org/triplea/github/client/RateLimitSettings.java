@@ -0,0 +1,52 @@
+package org.triplea.github.client;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Configures how a client paces requests to stay within the Github rate limit. A client without
+ * settings still tracks the rate limit but never delays nor retries a request.
+ */
+@Builder
+@Value
+public class RateLimitSettings {
+  /** Settings that track the rate limit without throttling requests. */
+  static final RateLimitSettings UNTHROTTLED =
+      RateLimitSettings.builder()
+          .lowBudgetThreshold(0)
+          .maxRetries(0)
+          .maxQueueTime(Duration.ZERO)
+          .build();
+
+  /**
+   * Max sustained number of requests per second, excess requests wait for their turn. Null disables
+   * pacing.
+   */
+  @Nullable Double requestsPerSecond;
+
+  /**
+   * Once the remaining budget drops to this number, requests are spread evenly over the time left
+   * until the rate limit resets. Requests are held until the reset when no budget is left.
+   */
+  @Builder.Default int lowBudgetThreshold = 50;
+
+  /**
+   * Max number of times a request rejected by a (secondary) rate limit is retried. Github sends
+   * these rejections as 403 or 429 responses.
+   */
+  @Builder.Default int maxRetries = 3;
+
+  /**
+   * Delay before the first retry of a rate limited request that has no 'Retry-After' header, the
+   * delay doubles with each further retry. Github recommends waiting at least a minute.
+   */
+  @Builder.Default Duration initialBackoff = Duration.ofMinutes(1);
+
+  /**
+   * Longest time a request may be held back before being sent. Requests that would have to wait
+   * longer are sent right away, and are likely to be rejected by Github.
+   */
+  @Builder.Default Duration maxQueueTime = Duration.ofMinutes(15);
+}
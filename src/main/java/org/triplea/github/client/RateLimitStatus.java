@@ -0,0 +1,20 @@
+package org.triplea.github.client;
+
+import java.time.Instant;
+import lombok.Value;
+
+/**
+ * Snapshot of a Github rate limit budget as reported by the 'X-RateLimit-*' headers of the most
+ * recent response.
+ */
+@Value
+public class RateLimitStatus {
+  /** Name of the rate limit resource, eg: 'core' or 'graphql'. */
+  String resource;
+  /** Max number of requests allowed per rate limit window. */
+  int limit;
+  /** Number of requests remaining in the current rate limit window. */
+  int remaining;
+  /** Time at which the current rate limit window resets. */
+  Instant reset;
+}
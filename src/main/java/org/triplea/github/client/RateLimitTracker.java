@@ -0,0 +1,119 @@
+package org.triplea.github.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps track of the rate limit budget reported by Github response headers and schedules requests
+ * so that the remaining budget lasts until the rate limit resets. Budgets are tracked per rate
+ * limit resource ('core', 'graphql', ...).
+ */
+class RateLimitTracker {
+  static final String CORE_RESOURCE = "core";
+  static final String GRAPHQL_RESOURCE = "graphql";
+
+  private static final String LIMIT_HEADER = "X-RateLimit-Limit";
+  static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+  static final String RESET_HEADER = "X-RateLimit-Reset";
+  private static final String RESOURCE_HEADER = "X-RateLimit-Resource";
+
+  private final Map<String, RateLimitStatus> statusByResource = new ConcurrentHashMap<>();
+  private final Map<String, Instant> nextSlotByResource = new ConcurrentHashMap<>();
+
+  /** Returns the rate limit resource a request to the given URL is charged against. */
+  static String resourceOf(final String url) {
+    return url.contains("/graphql") ? GRAPHQL_RESOURCE : CORE_RESOURCE;
+  }
+
+  Optional<RateLimitStatus> getStatus(final String resource) {
+    return Optional.ofNullable(statusByResource.get(resource));
+  }
+
+  /** Updates the tracked budget from the headers of a response, if it has rate limit headers. */
+  void update(final Map<String, Collection<String>> headers) {
+    final Integer limit = intHeader(headers, LIMIT_HEADER);
+    final Integer remaining = intHeader(headers, REMAINING_HEADER);
+    final Integer reset = intHeader(headers, RESET_HEADER);
+    if (limit == null || remaining == null || reset == null) {
+      return;
+    }
+    final String resource =
+        Optional.ofNullable(headerValue(headers, RESOURCE_HEADER)).orElse(CORE_RESOURCE);
+    statusByResource.put(
+        resource,
+        new RateLimitStatus(resource, limit, remaining, Instant.ofEpochSecond(reset.longValue())));
+  }
+
+  /**
+   * Reserves a time slot for a request against the given resource and returns how long the caller
+   * has to wait for it. While the remaining budget is above the threshold requests are not delayed.
+   * Below it, slots are handed out at even intervals up to the reset time, and once the budget is
+   * exhausted no slot is available before the reset.
+   */
+  Duration reserve(final String resource, final int lowBudgetThreshold, final Instant now) {
+    return reserve(resource, lowBudgetThreshold, ChronoUnit.FOREVER.getDuration(), now);
+  }
+
+  /**
+   * Like {@link #reserve(String, int, Instant)}, but a slot further away than the given max wait is
+   * not reserved: the caller is expected to send its request right away, so it must not push later
+   * requests further out.
+   */
+  synchronized Duration reserve(
+      final String resource,
+      final int lowBudgetThreshold,
+      final Duration maxWait,
+      final Instant now) {
+    final RateLimitStatus status = statusByResource.get(resource);
+    if (status == null
+        || status.getRemaining() > lowBudgetThreshold
+        || !status.getReset().isAfter(now)) {
+      return Duration.ZERO;
+    }
+
+    final Instant nextSlot = nextSlotByResource.getOrDefault(resource, now);
+    final Instant slot;
+    final Instant following;
+    if (status.getRemaining() <= 0) {
+      slot = max(nextSlot, status.getReset());
+      following = slot;
+    } else {
+      final Duration interval =
+          Duration.between(now, status.getReset()).dividedBy(status.getRemaining());
+      slot = max(nextSlot, now);
+      following = slot.plus(interval);
+    }
+    final Duration delay = Duration.between(now, slot);
+    if (delay.compareTo(maxWait) <= 0) {
+      nextSlotByResource.put(resource, following);
+    }
+    return delay;
+  }
+
+  private static Instant max(final Instant first, final Instant second) {
+    return first.isAfter(second) ? first : second;
+  }
+
+  @Nullable
+  static Integer intHeader(final Map<String, Collection<String>> headers, final String name) {
+    final String value = headerValue(headers, name);
+    try {
+      return value == null ? null : Integer.valueOf(value.trim());
+    } catch (final NumberFormatException e) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private static String headerValue(
+      final Map<String, Collection<String>> headers, final String name) {
+    final Collection<String> values = headers.get(name);
+    return values == null || values.isEmpty() ? null : values.iterator().next();
+  }
+}
@@ -0,0 +1,160 @@
+package org.triplea.github.client;
+
+import com.google.common.util.concurrent.RateLimiter;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+
+/**
+ * Decorates a feign client with rate limit awareness. Outgoing requests are paced with a token
+ * bucket and held back when the remaining budget runs low. Requests rejected by a rate limit are
+ * retried after the delay Github asks for (the 'Retry-After' header, or the rate limit reset), or
+ * else after a jittered exponential backoff.
+ *
+ * <p>Requests sent through a {@code TokenPoolClient} are held back by the budget of the token they
+ * are sent with, which the pool tracks. This client then only paces them, and retries those that
+ * were rejected although the pool had no other token to switch to.
+ */
+class RateLimitedClient implements Client {
+  private static final int HTTP_FORBIDDEN = 403;
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+  private final Client delegate;
+  private final RateLimitTracker rateLimitTracker;
+  private final RateLimitSettings settings;
+  private final GithubMetricsListener metricsListener;
+  @Nullable private final RateLimiter requestPacer;
+  /** True if the budget is tracked per auth token by a {@code TokenPoolClient}. */
+  private final boolean budgetPerToken;
+
+  /**
+   * @param rateLimitTracker Tracker of the budget reported with the responses. Requests are held
+   *     back by this budget unless 'budgetPerToken' is set.
+   */
+  RateLimitedClient(
+      final Client delegate,
+      final RateLimitTracker rateLimitTracker,
+      final RateLimitSettings settings,
+      final GithubMetricsListener metricsListener,
+      final boolean budgetPerToken) {
+    this.delegate = delegate;
+    this.rateLimitTracker = rateLimitTracker;
+    this.budgetPerToken = budgetPerToken;
+    this.settings = settings;
+    this.metricsListener = metricsListener;
+    this.requestPacer =
+        settings.getRequestsPerSecond() == null
+            ? null
+            : RateLimiter.create(settings.getRequestsPerSecond());
+  }
+
+  @Override
+  public Response execute(final Request request, final Request.Options options) throws IOException {
+    final String resource = RateLimitTracker.resourceOf(request.url());
+    for (int attempt = 0; ; attempt++) {
+      awaitTurn(resource);
+      final Response response = delegate.execute(request, options);
+      rateLimitTracker.update(response.headers());
+
+      if (!isRateLimited(response) || attempt >= settings.getMaxRetries()) {
+        return response;
+      }
+      final Duration retryDelay = withJitter(retryDelay(response, settings, attempt));
+      if (retryDelay.compareTo(settings.getMaxQueueTime()) > 0) {
+        return response;
+      }
+      response.close();
+      metricsListener.requestRetried(
+          MetricsClient.endpointOf(request), response.status(), retryDelay);
+      sleep(retryDelay);
+    }
+  }
+
+  private void awaitTurn(final String resource) throws InterruptedIOException {
+    if (requestPacer != null) {
+      requestPacer.acquire();
+    }
+    if (!budgetPerToken) {
+      awaitBudget(rateLimitTracker, resource, settings);
+    }
+  }
+
+  /**
+   * Waits for the time slot the tracked budget allows, unless the slot is further away than the max
+   * queue time.
+   */
+  static void awaitBudget(
+      final RateLimitTracker rateLimitTracker,
+      final String resource,
+      final RateLimitSettings settings)
+      throws InterruptedIOException {
+    final Duration delay =
+        rateLimitTracker.reserve(
+            resource, settings.getLowBudgetThreshold(), settings.getMaxQueueTime(), Instant.now());
+    if (delay.compareTo(settings.getMaxQueueTime()) <= 0) {
+      sleep(delay);
+    }
+  }
+
+  /** Checks if a response is a rejection by a (secondary) rate limit. */
+  static boolean isRateLimited(final Response response) {
+    if (response.status() == HTTP_TOO_MANY_REQUESTS) {
+      return true;
+    }
+    if (response.status() != HTTP_FORBIDDEN) {
+      return false;
+    }
+    final Integer remaining =
+        RateLimitTracker.intHeader(response.headers(), RateLimitTracker.REMAINING_HEADER);
+    return response.headers().containsKey(Util.RETRY_AFTER)
+        || (remaining != null && remaining == 0);
+  }
+
+  /**
+   * Returns the delay before a request rejected by a rate limit may be sent again, without jitter.
+   */
+  static Duration retryDelay(
+      final Response response, final RateLimitSettings settings, final int attempt) {
+    final Integer retryAfterSeconds =
+        RateLimitTracker.intHeader(response.headers(), Util.RETRY_AFTER);
+    if (retryAfterSeconds != null) {
+      return Duration.ofSeconds(retryAfterSeconds);
+    }
+    final Integer reset =
+        RateLimitTracker.intHeader(response.headers(), RateLimitTracker.RESET_HEADER);
+    final Integer remaining =
+        RateLimitTracker.intHeader(response.headers(), RateLimitTracker.REMAINING_HEADER);
+    if (reset != null && remaining != null && remaining == 0) {
+      final Duration untilReset = Duration.between(Instant.now(), Instant.ofEpochSecond(reset));
+      return untilReset.isNegative() ? Duration.ZERO : untilReset;
+    }
+    return settings.getInitialBackoff().multipliedBy(1L << Math.min(attempt, 16));
+  }
+
+  /** Adds up to 20% of random delay so that throttled clients do not all retry at once. */
+  private static Duration withJitter(final Duration delay) {
+    final long maxJitterMillis = delay.toMillis() / 5;
+    return maxJitterMillis <= 0
+        ? delay
+        : delay.plusMillis(ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+  }
+
+  private static void sleep(final Duration duration) throws InterruptedIOException {
+    if (duration.isZero() || duration.isNegative()) {
+      return;
+    }
+    try {
+      Thread.sleep(duration.toMillis());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for rate limit");
+    }
+  }
+}
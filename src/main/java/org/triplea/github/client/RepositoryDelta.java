@@ -0,0 +1,21 @@
+package org.triplea.github.client;
+
+import java.util.List;
+import lombok.Value;
+
+/** Changes to the repositories of an organization between two {@code RepositorySync} cycles. */
+@Value
+public class RepositoryDelta {
+  /** Repositories that were not in the previous snapshot. */
+  List<SyncedRepository> added;
+  /** Repositories whose push or update time moved since the previous snapshot. */
+  List<SyncedRepository> updated;
+  /** Repositories of the previous snapshot that no longer exist. */
+  List<SyncedRepository> removed;
+  /** State after this cycle, to be passed to the next sync. */
+  RepositorySnapshot snapshot;
+
+  public boolean isEmpty() {
+    return added.isEmpty() && updated.isEmpty() && removed.isEmpty();
+  }
+}
@@ -0,0 +1,119 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import feign.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/**
+ * Iterates over the repositories of an organization, fetching listing pages only as they are
+ * needed. Each page is parsed incrementally from the response stream, one repository at a time.
+ * Closing the iterator releases the page currently being read, which allows callers to stop early
+ * without downloading the remaining pages.
+ */
+class RepositoryListingIterator implements Iterator<RepositoryListing>, Closeable {
+  /** Fetches the (1-based) listing page with a given page number. */
+  private final IntFunction<Response> pageFetcher;
+
+  private int pageNumber;
+  private boolean hasMorePages = true;
+
+  private Response currentPage;
+  private JsonParser currentPageParser;
+  private boolean currentPageHasLinkHeader;
+  private boolean currentPageHasNextLink;
+  private int currentPageSize;
+
+  private RepositoryListing next;
+
+  RepositoryListingIterator(final IntFunction<Response> pageFetcher) {
+    this.pageFetcher = pageFetcher;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      try {
+        next = readNext();
+      } catch (final IOException e) {
+        close();
+        throw new UncheckedIOException("Failed to read repository listing", e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public RepositoryListing next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final RepositoryListing result = next;
+    next = null;
+    return result;
+  }
+
+  private RepositoryListing readNext() throws IOException {
+    while (true) {
+      if (currentPageParser != null) {
+        if (currentPageParser.nextToken() == JsonToken.START_OBJECT) {
+          currentPageSize++;
+          return RepositoryListingParser.readRepository(currentPageParser);
+        }
+        // end of the page, without a 'Link' header we keep going until we get an empty page
+        hasMorePages = currentPageHasLinkHeader ? currentPageHasNextLink : currentPageSize > 0;
+        closeCurrentPage();
+      }
+      if (!hasMorePages) {
+        return null;
+      }
+      openPage(++pageNumber);
+    }
+  }
+
+  private void openPage(final int page) throws IOException {
+    currentPage = pageFetcher.apply(page);
+    final Collection<String> linkHeader = currentPage.headers().get(LinkHeader.HEADER_NAME);
+    currentPageHasLinkHeader = linkHeader != null && !linkHeader.isEmpty();
+    currentPageHasNextLink = LinkHeader.nextPage(linkHeader).isPresent();
+    currentPageSize = 0;
+
+    currentPageParser = StreamingJson.parserFor(currentPage);
+    if (currentPageParser == null) {
+      hasMorePages = false;
+      closeCurrentPage();
+      return;
+    }
+    if (currentPageParser.nextToken() != JsonToken.START_ARRAY) {
+      throw new IOException("Expected a JSON array of repositories, page: " + page);
+    }
+  }
+
+  private void closeCurrentPage() throws IOException {
+    if (currentPageParser != null) {
+      currentPageParser.close();
+      currentPageParser = null;
+    }
+    if (currentPage != null) {
+      currentPage.close();
+      currentPage = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    hasMorePages = false;
+    try {
+      closeCurrentPage();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to close repository listing page", e);
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package org.triplea.github.client;
+
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/** One page of a repository listing along with the paging info from the 'Link' header. */
+@AllArgsConstructor
+class RepositoryListingPage {
+  @Getter private final List<RepositoryListing> repositories;
+
+  /** Number of the last page, null if Github did not send a 'Link' header. */
+  @Nullable private final Integer lastPage;
+
+  Optional<Integer> getLastPage() {
+    return Optional.ofNullable(lastPage);
+  }
+}
@@ -0,0 +1,38 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/**
+ * Decodes a repository listing page into a {@code RepositoryListingPage}. Repositories are read one
+ * at a time from the response stream keeping only the fields we need, the paging info is read from
+ * the 'Link' header.
+ */
+class RepositoryListingPageDecoder implements Decoder {
+  @Override
+  public Object decode(final Response response, final Type type) throws IOException {
+    final Integer lastPage =
+        LinkHeader.lastPage(response.headers().get(LinkHeader.HEADER_NAME)).orElse(null);
+    final List<RepositoryListing> repositories = new ArrayList<>();
+    try (JsonParser parser = StreamingJson.parserFor(response)) {
+      if (parser != null && parser.nextToken() != null) {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+          throw new DecodeException(
+              response.status(), "Expected a JSON array of repositories", response.request());
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          repositories.add(RepositoryListingParser.readRepository(parser));
+        }
+      }
+    }
+    return new RepositoryListingPage(repositories, lastPage);
+  }
+}
@@ -0,0 +1,41 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import lombok.experimental.UtilityClass;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/** Reads {@code RepositoryListing} objects from a repository listing JSON array. */
+@UtilityClass
+class RepositoryListingParser {
+
+  /**
+   * Reads the repository object the parser is positioned at, skipping the fields that are not
+   * needed. The parser is left at the end of the object.
+   */
+  static RepositoryListing readRepository(final JsonParser parser) throws IOException {
+    final RepositoryListing.RepositoryListingBuilder repository = RepositoryListing.builder();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      switch (fieldName) {
+        case "name":
+          repository.name(parser.getValueAsString());
+          break;
+        case "html_url":
+          repository.htmlUrl(parser.getValueAsString());
+          break;
+        case "pushed_at":
+          repository.pushedAt(StreamingJson.parseInstant(parser.getValueAsString()));
+          break;
+        case "updated_at":
+          repository.updatedAt(StreamingJson.parseInstant(parser.getValueAsString()));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return repository.build();
+  }
+}
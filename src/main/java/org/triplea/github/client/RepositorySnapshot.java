@@ -0,0 +1,45 @@
+package org.triplea.github.client;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Immutable state of the repositories of an organization as of one {@code RepositorySync} cycle. A
+ * snapshot can be rebuilt from its repositories (eg: after loading them from a database) with
+ * {@link #of(Collection)}.
+ */
+@ToString
+@EqualsAndHashCode
+public class RepositorySnapshot {
+  /** Snapshot without repositories, a sync against it fetches everything. */
+  public static final RepositorySnapshot EMPTY = new RepositorySnapshot(Map.of());
+
+  private final Map<String, SyncedRepository> repositoriesByName;
+
+  private RepositorySnapshot(final Map<String, SyncedRepository> repositoriesByName) {
+    this.repositoriesByName = Collections.unmodifiableMap(repositoriesByName);
+  }
+
+  public static RepositorySnapshot of(final Collection<SyncedRepository> repositories) {
+    final Map<String, SyncedRepository> repositoriesByName = new LinkedHashMap<>();
+    repositories.forEach(repository -> repositoriesByName.put(repository.getName(), repository));
+    return new RepositorySnapshot(repositoriesByName);
+  }
+
+  public Collection<SyncedRepository> getRepositories() {
+    return repositoriesByName.values();
+  }
+
+  public Optional<SyncedRepository> get(final String repositoryName) {
+    return Optional.ofNullable(repositoriesByName.get(repositoryName));
+  }
+
+  public int size() {
+    return repositoriesByName.size();
+  }
+}
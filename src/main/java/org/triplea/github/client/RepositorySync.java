@@ -0,0 +1,164 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import feign.FeignException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/**
+ * Incrementally syncs the repositories of an organization, and info about one branch of each
+ * repository. Each cycle lists the repositories and compares their 'pushed_at' and 'updated_at'
+ * times to a previous snapshot. Branch info is fetched only for repositories that are new or whose
+ * times moved, so the cost of a cycle scales with the number of changed repositories rather than
+ * the size of the organization.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * RepositorySnapshot snapshot = RepositorySnapshot.EMPTY;
+ * while (running) {
+ *   RepositoryDelta delta = repositorySync.sync(snapshot);
+ *   // handle delta.getAdded(), delta.getUpdated(), delta.getRemoved()
+ *   snapshot = delta.getSnapshot();
+ * }
+ * }</pre>
+ */
+public class RepositorySync {
+  private static final int DEFAULT_PARALLELISM = 4;
+
+  private final GithubClient githubClient;
+  private final String branchName;
+  private final int parallelism;
+  private final boolean bulkBranchLookup;
+
+  /**
+   * @param githubClient Client of the organization to be synced.
+   * @param branchName Branch whose info is fetched for each repository, eg: 'master'. Snapshots are
+   *     only meaningful for the branch they were synced with.
+   * @param parallelism Max number of branch lookups sent concurrently, defaults to 4.
+   * @param bulkBranchLookup True to fetch the branch info of all changed repositories with bulk
+   *     GraphQL requests (requires an auth token), false to fetch it repository by repository.
+   */
+  @Builder
+  public RepositorySync(
+      @Nonnull GithubClient githubClient,
+      @Nonnull String branchName,
+      @Nullable Integer parallelism,
+      boolean bulkBranchLookup) {
+    Preconditions.checkArgument(parallelism == null || parallelism > 0);
+    this.githubClient = Preconditions.checkNotNull(githubClient);
+    this.branchName = Preconditions.checkNotNull(branchName);
+    this.parallelism = Optional.ofNullable(parallelism).orElse(DEFAULT_PARALLELISM);
+    this.bulkBranchLookup = bulkBranchLookup;
+  }
+
+  /**
+   * Lists the repositories of the organization and fetches branch info of those that changed since
+   * the previous snapshot.
+   *
+   * @param previous Snapshot of the previous cycle, {@code RepositorySnapshot.EMPTY} to sync
+   *     everything.
+   * @throws feign.FeignException thrown if listing repositories or fetching branch info fails
+   */
+  public RepositoryDelta sync(final RepositorySnapshot previous) {
+    Preconditions.checkNotNull(previous);
+    final Collection<RepositoryListing> listings = githubClient.listRepositories();
+
+    final List<RepositoryListing> changed =
+        listings.stream()
+            .filter(
+                listing ->
+                    previous
+                        .get(listing.getName())
+                        .map(synced -> hasChanged(synced.getListing(), listing))
+                        .orElse(true))
+            .collect(Collectors.toList());
+    final Set<String> changedNames =
+        changed.stream().map(RepositoryListing::getName).collect(Collectors.toSet());
+    final Map<String, BranchInfoResponse> branchInfos = fetchBranchInfos(changed);
+
+    final List<SyncedRepository> added = new ArrayList<>();
+    final List<SyncedRepository> updated = new ArrayList<>();
+    final List<SyncedRepository> current = new ArrayList<>();
+    for (final RepositoryListing listing : listings) {
+      final Optional<SyncedRepository> before = previous.get(listing.getName());
+      if (!changedNames.contains(listing.getName())) {
+        current.add(new SyncedRepository(listing, before.get().getBranchInfo()));
+        continue;
+      }
+      final SyncedRepository synced =
+          new SyncedRepository(listing, branchInfos.get(listing.getName()));
+      current.add(synced);
+      (before.isPresent() ? updated : added).add(synced);
+    }
+
+    final RepositorySnapshot snapshot = RepositorySnapshot.of(current);
+    final List<SyncedRepository> removed =
+        previous.getRepositories().stream()
+            .filter(repository -> snapshot.get(repository.getName()).isEmpty())
+            .collect(Collectors.toList());
+    return new RepositoryDelta(added, updated, removed, snapshot);
+  }
+
+  /**
+   * A repository is considered changed when its push or update time moved, or when the times are
+   * unknown (in which case there is no way to tell).
+   */
+  private static boolean hasChanged(final RepositoryListing before, final RepositoryListing now) {
+    return now.getPushedAt() == null
+        || now.getUpdatedAt() == null
+        || !Objects.equals(before.getPushedAt(), now.getPushedAt())
+        || !Objects.equals(before.getUpdatedAt(), now.getUpdatedAt())
+        || !before.equals(now);
+  }
+
+  private Map<String, BranchInfoResponse> fetchBranchInfos(
+      final Collection<RepositoryListing> repositories) {
+    if (bulkBranchLookup) {
+      final Map<String, String> branchNameByRepositoryName = new HashMap<>();
+      repositories.forEach(
+          repository -> branchNameByRepositoryName.put(repository.getName(), branchName));
+      return branchNameByRepositoryName.isEmpty()
+          ? Map.of()
+          : githubClient.fetchBranchInfos(branchNameByRepositoryName);
+    }
+
+    final List<Supplier<Optional<BranchInfoResponse>>> lookups =
+        repositories.stream()
+            .map(
+                repository ->
+                    (Supplier<Optional<BranchInfoResponse>>)
+                        () -> fetchBranchInfo(repository.getName()))
+            .collect(Collectors.toList());
+    final List<Optional<BranchInfoResponse>> results =
+        BulkRequests.invokeAll(lookups, parallelism, "github-repo-sync-%d");
+
+    final Map<String, BranchInfoResponse> branchInfos = new HashMap<>();
+    int index = 0;
+    for (final RepositoryListing repository : repositories) {
+      results.get(index++).ifPresent(info -> branchInfos.put(repository.getName(), info));
+    }
+    return branchInfos;
+  }
+
+  private Optional<BranchInfoResponse> fetchBranchInfo(final String repositoryName) {
+    try {
+      return Optional.of(githubClient.fetchBranchInfo(repositoryName, branchName));
+    } catch (final FeignException.NotFound e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,342 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import feign.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of decoded GET responses keyed by request URL. Alongside each decoded response we keep the
+ * 'ETag' and 'Last-Modified' validators sent by Github. Once a URL is cached, further requests to
+ * it are sent as conditional requests (If-None-Match / If-Modified-Since). When Github answers with
+ * '304 Not Modified' the previously decoded object is returned without decoding anything. Github
+ * does not count 304 responses against the rate limit.
+ *
+ * <p>Entries are replaced when Github sends new content, they are never evicted. The number of
+ * entries is bounded by the number of distinct URLs a client requests. An instance is thread safe
+ * and may be shared between clients.
+ *
+ * <p>A cache created with {@link #persistent(Path, Duration)} also writes the raw body of each
+ * cached response to disk. After a restart, responses restored from disk are returned immediately
+ * (without waiting on the network) as long as they were fetched within the max staleness. Each
+ * restored response is then revalidated once in the background, later requests for it are sent as
+ * regular conditional requests.
+ */
+@Slf4j
+public class ResponseCache implements Closeable {
+  /**
+   * Header added to a response that was answered with a '304 Not Modified'. Signals to the decoder
+   * that the cached value should be used. Never sent over the network.
+   */
+  static final String NOT_MODIFIED_HEADER = "X-Github-Client-Not-Modified";
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder notModified = new LongAdder();
+  private final LongAdder restoredHits = new LongAdder();
+
+  @Nullable private final ResponseCacheStore store;
+  @Nullable private final ExecutorService revalidationExecutor;
+  private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+  private final Duration maxStaleness;
+  private final Clock clock;
+
+  /**
+   * A cached response along with the validators needed to revalidate it and the 'Link' header of
+   * paged responses. Holds the decoded value, the raw body, or both. Responses restored from disk
+   * hold only the raw body until they are first requested.
+   */
+  @Getter
+  @AllArgsConstructor
+  static class Entry {
+    @Nullable private final String etag;
+    @Nullable private final String lastModified;
+    @Nullable private final String link;
+    @Nullable private final Object value;
+    @Nullable private final byte[] body;
+    @Nonnull private final Instant fetchedAt;
+    /** True if the entry was restored from disk and has not been revalidated since. */
+    private final boolean restored;
+  }
+
+  /** Body decoding function used to decode cached responses that were restored from disk. */
+  @FunctionalInterface
+  interface BodyDecoder {
+    Object decode(byte[] body) throws IOException;
+  }
+
+  /** Creates an in-memory cache. */
+  public ResponseCache() {
+    store = null;
+    revalidationExecutor = null;
+    maxStaleness = Duration.ZERO;
+    clock = Clock.systemUTC();
+  }
+
+  private ResponseCache(
+      final ResponseCacheStore store, final Duration maxStaleness, final Clock clock) {
+    this.store = store;
+    this.maxStaleness = maxStaleness;
+    this.clock = clock;
+    revalidationExecutor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("github-cache-revalidation-%d")
+                .build());
+  }
+
+  /**
+   * Creates a cache that persists responses to a file in the given directory and loads any
+   * responses persisted there by a previous instance.
+   *
+   * @param directory Directory for the cache file, created if it does not exist. Must not be shared
+   *     by two caches at the same time.
+   * @param maxStaleness Restored responses fetched longer ago than this are not returned without a
+   *     revalidation, requests for them wait on Github like any other conditional request.
+   * @throws IOException thrown if the cache directory can not be read or written
+   */
+  public static ResponseCache persistent(final Path directory, final Duration maxStaleness)
+      throws IOException {
+    return persistent(directory, maxStaleness, Clock.systemUTC());
+  }
+
+  static ResponseCache persistent(
+      final Path directory, final Duration maxStaleness, final Clock clock) throws IOException {
+    Preconditions.checkNotNull(directory);
+    Preconditions.checkArgument(!maxStaleness.isNegative());
+    final ResponseCacheStore store = new ResponseCacheStore(directory);
+    final ResponseCache responseCache = new ResponseCache(store, maxStaleness, clock);
+    store
+        .load()
+        .forEach(
+            (url, stored) ->
+                responseCache.entries.put(
+                    url,
+                    new Entry(
+                        stored.getEtag(),
+                        stored.getLastModified(),
+                        stored.getLink(),
+                        null,
+                        stored.getBody(),
+                        stored.getFetchedAt(),
+                        true)));
+    return responseCache;
+  }
+
+  /** True if responses are written to disk, in which case the decoder must keep the raw body. */
+  boolean isPersistent() {
+    return store != null;
+  }
+
+  /**
+   * Looks up the cache entry for a URL that is about to be requested. Records a hit if an entry is
+   * found and a miss otherwise.
+   */
+  Optional<Entry> lookup(String url) {
+    final Optional<Entry> entry = Optional.ofNullable(entries.get(url));
+    if (entry.isPresent()) {
+      hits.increment();
+    } else {
+      misses.increment();
+    }
+    return entry;
+  }
+
+  /**
+   * Checks if an entry may be returned without waiting on Github. True for entries restored from
+   * disk that are within the max staleness, the caller is then expected to revalidate the entry in
+   * the background.
+   */
+  boolean isServableBeforeRevalidation(Entry entry) {
+    return entry.isRestored()
+        && Duration.between(entry.getFetchedAt(), clock.instant()).compareTo(maxStaleness) <= 0;
+  }
+
+  /**
+   * Records that a restored entry is returned before being revalidated, and runs a revalidation of
+   * it in the background unless one is already running for the same URL.
+   */
+  void revalidateInBackground(String url, Revalidation revalidation) {
+    Preconditions.checkState(revalidationExecutor != null);
+    restoredHits.increment();
+    if (!revalidating.add(url)) {
+      return;
+    }
+    revalidationExecutor.execute(
+        () -> {
+          try {
+            revalidation.run();
+          } catch (final IOException | RuntimeException e) {
+            log.warn("Failed to revalidate cached response of: " + url, e);
+          } finally {
+            revalidating.remove(url);
+          }
+        });
+  }
+
+  /** A background revalidation request. */
+  @FunctionalInterface
+  interface Revalidation {
+    void run() throws IOException;
+  }
+
+  /**
+   * Returns the value cached for a URL that Github reported as '304 Not Modified', or that is
+   * answered from disk before being revalidated. Entries restored from disk are decoded on first
+   * use.
+   */
+  Object notModified(String url, BodyDecoder bodyDecoder) throws IOException {
+    final Entry entry = entries.get(url);
+    Preconditions.checkState(entry != null, "No cached response for: " + url);
+    notModified.increment();
+    if (entry.getValue() != null) {
+      return entry.getValue();
+    }
+    final Object decoded = bodyDecoder.decode(entry.getBody());
+    entries.replace(
+        url,
+        entry,
+        new Entry(
+            entry.getEtag(),
+            entry.getLastModified(),
+            entry.getLink(),
+            decoded,
+            null,
+            entry.getFetchedAt(),
+            entry.isRestored()));
+    return decoded;
+  }
+
+  /** Stores a decoded response, in memory only. */
+  void store(
+      String url,
+      @Nullable String etag,
+      @Nullable String lastModified,
+      @Nullable String link,
+      @Nonnull Object value) {
+    entries.put(url, new Entry(etag, lastModified, link, value, null, clock.instant(), false));
+  }
+
+  /**
+   * Stores a response that was decoded from the given raw body. The body is written to disk and not
+   * kept in memory.
+   */
+  void store(
+      String url,
+      @Nullable String etag,
+      @Nullable String lastModified,
+      @Nullable String link,
+      @Nullable Object value,
+      byte[] body) {
+    final Instant fetchedAt = clock.instant();
+    entries.put(
+        url,
+        new Entry(etag, lastModified, link, value, value == null ? body : null, fetchedAt, false));
+    persist(new ResponseCacheStore.StoredResponse(url, etag, lastModified, link, fetchedAt, body));
+  }
+
+  /**
+   * Records that Github confirmed a cached response is unchanged. The revalidation time is
+   * persisted too, so that the response is still fresh enough to be served from disk after a
+   * restart.
+   */
+  void revalidated(String url) {
+    final Instant revalidatedAt = clock.instant();
+    final Entry revalidated =
+        entries.computeIfPresent(
+            url,
+            (key, entry) ->
+                new Entry(
+                    entry.getEtag(),
+                    entry.getLastModified(),
+                    entry.getLink(),
+                    entry.getValue(),
+                    entry.getBody(),
+                    revalidatedAt,
+                    false));
+    if (revalidated != null && store != null) {
+      try {
+        store.appendRevalidation(url, revalidatedAt);
+      } catch (final IOException e) {
+        log.warn("Failed to persist revalidation of cached response of: " + url, e);
+      }
+    }
+  }
+
+  private void persist(final ResponseCacheStore.StoredResponse response) {
+    if (store == null) {
+      return;
+    }
+    try {
+      store.append(response);
+    } catch (final IOException e) {
+      log.warn("Failed to persist cached response of: " + response.getUrl(), e);
+    }
+  }
+
+  @Nullable
+  static String firstHeaderValue(Response response, String headerName) {
+    final Collection<String> values = response.headers().get(headerName);
+    return values == null || values.isEmpty() ? null : values.iterator().next();
+  }
+
+  /** Number of requests sent with cached validators, ie: sent as conditional requests. */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /** Number of requests sent without validators because nothing was cached for the URL. */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /** Number of '304 Not Modified' responses that were answered from the cache. */
+  public long getNotModifiedCount() {
+    return notModified.sum();
+  }
+
+  /**
+   * Number of requests answered with a response restored from disk, before it was revalidated.
+   * Always zero unless the cache is persistent.
+   */
+  public long getRestoredHitCount() {
+    return restoredHits.sum();
+  }
+
+  /** Number of URLs currently cached. */
+  public int size() {
+    return entries.size();
+  }
+
+  /** Stops background revalidation and closes the cache file. An in-memory cache is unaffected. */
+  @Override
+  public void close() throws IOException {
+    if (revalidationExecutor != null) {
+      revalidationExecutor.shutdownNow();
+    }
+    if (store != null) {
+      store.close();
+    }
+  }
+}
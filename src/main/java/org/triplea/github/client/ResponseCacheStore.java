@@ -0,0 +1,231 @@
+package org.triplea.github.client;
+
+import com.google.common.io.CountingInputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file that persists cached responses so that they survive a restart. A response record
+ * holds a request URL, the response validators, the 'Link' header used for paging, the time the
+ * response was fetched and the raw response body. When a URL is stored more than once the last
+ * record wins. A revalidation record holds only a URL and the time Github confirmed its response is
+ * unchanged, which then counts as the fetch time of the response. Superseded records are dropped
+ * when the file is compacted, which happens on load once they outnumber live records.
+ *
+ * <p>A record that was only partially written (eg: the process was killed) or that is corrupt is
+ * discarded on load, along with any record after it.
+ */
+@Slf4j
+class ResponseCacheStore implements Closeable {
+  static final String FILE_NAME = "github-responses.bin";
+
+  private static final int FILE_MAGIC = 0x47485243; // "GHRC"
+  private static final int FORMAT_VERSION = 3;
+  private static final byte RESPONSE_RECORD = 0;
+  private static final byte REVALIDATION_RECORD = 1;
+  private static final int MIN_RECORDS_FOR_COMPACTION = 100;
+
+  private final Path file;
+  private DataOutputStream output;
+
+  /** A response as persisted in the store. */
+  @Value
+  static class StoredResponse {
+    String url;
+    @Nullable String etag;
+    @Nullable String lastModified;
+    @Nullable String link;
+    Instant fetchedAt;
+    byte[] body;
+  }
+
+  ResponseCacheStore(final Path directory) throws IOException {
+    Files.createDirectories(directory);
+    file = directory.resolve(FILE_NAME);
+  }
+
+  /**
+   * Reads all stored responses, then opens the store for appending.
+   *
+   * @return The latest stored response of each URL.
+   */
+  synchronized Map<String, StoredResponse> load() throws IOException {
+    final Map<String, StoredResponse> responses = new LinkedHashMap<>();
+    int recordCount = 0;
+    long validLength = 0;
+    boolean validHeader = false;
+
+    if (Files.exists(file)) {
+      try (CountingInputStream counter =
+              new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)));
+          DataInputStream input = new DataInputStream(counter)) {
+        validHeader = input.readInt() == FILE_MAGIC && input.readInt() == FORMAT_VERSION;
+        final long fileSize = Files.size(file);
+        while (validHeader) {
+          validLength = counter.getCount();
+          readRecord(input, fileSize - validLength, responses);
+          recordCount++;
+        }
+      } catch (final EOFException | UTFDataFormatException | CorruptRecordException e) {
+        if (validLength < Files.size(file)) {
+          log.warn(
+              "Discarding incomplete or corrupt records at the end of the response cache: {}",
+              file);
+        }
+      }
+    }
+
+    if (!validHeader
+        || (recordCount >= MIN_RECORDS_FOR_COMPACTION && recordCount > 2 * responses.size())) {
+      rewrite(responses.values());
+    } else if (validLength < Files.size(file)) {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.truncate(validLength);
+      }
+    }
+    output =
+        new DataOutputStream(
+            new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+    return responses;
+  }
+
+  /** Appends a response to the store, superseding any previously stored response of its URL. */
+  synchronized void append(final StoredResponse response) throws IOException {
+    if (output == null) {
+      throw new IllegalStateException("Response cache store is not loaded or already closed");
+    }
+    writeRecord(output, response);
+    output.flush();
+  }
+
+  /**
+   * Appends a revalidation of a URL's stored response to the store, the response then counts as
+   * fetched at the given time.
+   */
+  synchronized void appendRevalidation(final String url, final Instant revalidatedAt)
+      throws IOException {
+    if (output == null) {
+      throw new IllegalStateException("Response cache store is not loaded or already closed");
+    }
+    output.writeByte(REVALIDATION_RECORD);
+    output.writeUTF(url);
+    output.writeLong(revalidatedAt.toEpochMilli());
+    output.flush();
+  }
+
+  private void rewrite(final Collection<StoredResponse> responses) throws IOException {
+    final Path tempFile = file.resolveSibling(FILE_NAME + ".tmp");
+    try (DataOutputStream tempOutput =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+      tempOutput.writeInt(FILE_MAGIC);
+      tempOutput.writeInt(FORMAT_VERSION);
+      for (final StoredResponse response : responses) {
+        writeRecord(tempOutput, response);
+      }
+    }
+    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Signals a record that can not have been written by this class. */
+  private static class CorruptRecordException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    CorruptRecordException(final String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Reads a record and applies it to the responses read so far.
+   *
+   * @param remainingBytes Number of bytes left in the file, bounds the size of the record.
+   */
+  private static void readRecord(
+      final DataInputStream input,
+      final long remainingBytes,
+      final Map<String, StoredResponse> responses)
+      throws IOException {
+    final byte recordType = input.readByte();
+    if (recordType != RESPONSE_RECORD && recordType != REVALIDATION_RECORD) {
+      throw new CorruptRecordException("Unknown record type: " + recordType);
+    }
+    final String url = input.readUTF();
+    if (recordType == REVALIDATION_RECORD) {
+      final Instant revalidatedAt = Instant.ofEpochMilli(input.readLong());
+      responses.computeIfPresent(
+          url,
+          (key, response) ->
+              new StoredResponse(
+                  url,
+                  response.getEtag(),
+                  response.getLastModified(),
+                  response.getLink(),
+                  revalidatedAt,
+                  response.getBody()));
+      return;
+    }
+    final String etag = readNullableString(input);
+    final String lastModified = readNullableString(input);
+    final String link = readNullableString(input);
+    final Instant fetchedAt = Instant.ofEpochMilli(input.readLong());
+    final int bodyLength = input.readInt();
+    if (bodyLength < 0 || bodyLength > remainingBytes) {
+      throw new CorruptRecordException("Invalid body length: " + bodyLength);
+    }
+    final byte[] body = new byte[bodyLength];
+    input.readFully(body);
+    responses.put(url, new StoredResponse(url, etag, lastModified, link, fetchedAt, body));
+  }
+
+  @Nullable
+  private static String readNullableString(final DataInputStream input) throws IOException {
+    return input.readBoolean() ? input.readUTF() : null;
+  }
+
+  private static void writeRecord(final DataOutputStream output, final StoredResponse response)
+      throws IOException {
+    output.writeByte(RESPONSE_RECORD);
+    output.writeUTF(response.getUrl());
+    writeNullableString(output, response.getEtag());
+    writeNullableString(output, response.getLastModified());
+    writeNullableString(output, response.getLink());
+    output.writeLong(response.getFetchedAt().toEpochMilli());
+    output.writeInt(response.getBody().length);
+    output.write(response.getBody());
+  }
+
+  private static void writeNullableString(final DataOutputStream output, final String value)
+      throws IOException {
+    output.writeBoolean(value != null);
+    if (value != null) {
+      output.writeUTF(value);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (output != null) {
+      output.close();
+      output = null;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package org.triplea.github.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import feign.Response;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import javax.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Helpers to pick individual values out of a JSON document with Jackson's streaming parser. Values
+ * that are not needed are skipped without being materialized.
+ */
+@UtilityClass
+class StreamingJson {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /** Creates a parser reading the body of a response, null if the response has no body. */
+  @Nullable
+  static JsonParser parserFor(final Response response) throws IOException {
+    return response.body() == null
+        ? null
+        : JSON_FACTORY.createParser(response.body().asInputStream());
+  }
+
+  /**
+   * Moves a parser that is positioned at the start of an object (or on one of its values) to the
+   * value of the named field of that object, skipping all other fields.
+   *
+   * @return True if the field was found, the parser is then positioned on its value. False if the
+   *     object has no such field, the parser is then positioned at the end of the object.
+   */
+  static boolean moveToField(final JsonParser parser, final String fieldName) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final boolean found = fieldName.equals(parser.getCurrentName());
+      parser.nextToken();
+      if (found) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  /**
+   * Follows a path of nested field names starting at the object the parser is positioned on.
+   *
+   * @return True if the path exists, the parser is then positioned on the value of the last field.
+   */
+  static boolean moveToPath(final JsonParser parser, final String... fieldNames)
+      throws IOException {
+    for (int i = 0; i < fieldNames.length; i++) {
+      if (i > 0 && parser.currentToken() != JsonToken.START_OBJECT) {
+        return false;
+      }
+      if (!moveToField(parser, fieldNames[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Parses an ISO-8601 timestamp with offset, eg: "2021-02-04T19:30:32Z". */
+  @Nullable
+  static Instant parseInstant(@Nullable final String timestamp) {
+    return timestamp == null ? null : OffsetDateTime.parse(timestamp).toInstant();
+  }
+}
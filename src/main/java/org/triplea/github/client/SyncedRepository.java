@@ -0,0 +1,18 @@
+package org.triplea.github.client;
+
+import javax.annotation.Nullable;
+import lombok.Value;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.repo.RepositoryListing;
+
+/** A repository as seen by {@code RepositorySync}, along with info about the synced branch. */
+@Value
+public class SyncedRepository {
+  RepositoryListing listing;
+  /** Info about the synced branch, null if the repository has no such branch. */
+  @Nullable BranchInfoResponse branchInfo;
+
+  public String getName() {
+    return listing.getName();
+  }
+}
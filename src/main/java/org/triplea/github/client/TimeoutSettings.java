@@ -0,0 +1,25 @@
+package org.triplea.github.client;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Per-operation timeouts of {@code ExternalGithubClient}. A timeout bounds the time to connect and
+ * the time waiting for each read of the response, so a stalled Github node fails the call rather
+ * than holding it for the default timeout of a minute. It is not a deadline of the whole call: a
+ * response that keeps trickling in, retries and paging can take longer in total. Operations without
+ * a timeout of their own use the default timeout.
+ */
+@Builder
+@Value
+public class TimeoutSettings {
+  @Builder.Default Duration defaultTimeout = Duration.ofSeconds(60);
+
+  @Nullable Duration createIssue;
+  @Nullable Duration fetchBranchInfo;
+  @Nullable Duration fetchBranchInfos;
+  @Nullable Duration listRepositories;
+  @Nullable Duration fetchLatestVersion;
+}
@@ -0,0 +1,152 @@
+package org.triplea.github.client;
+
+import com.google.common.base.Preconditions;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Pool of auth tokens, each with its own rate limit budget. Requests are sent with the token that
+ * has the most budget left for the requested resource, counting requests that are still in flight.
+ * A token with an exhausted budget, or that was rejected by a rate limit, is skipped until its rate
+ * limit resets (or the delay Github asked for has passed). A token Github rejects is taken out of
+ * rotation for good.
+ */
+class TokenPool {
+  private final List<PooledToken> tokens;
+
+  TokenPool(final Collection<String> authTokens) {
+    Preconditions.checkArgument(!authTokens.isEmpty());
+    Preconditions.checkArgument(authTokens.stream().noneMatch(String::isBlank));
+    tokens = authTokens.stream().distinct().map(PooledToken::new).collect(Collectors.toList());
+  }
+
+  /**
+   * Picks the token for a request and counts the request as in flight, the caller has to call
+   * {@link PooledToken#completed} once a response was received. If every usable token is exhausted,
+   * the one that resets first is picked.
+   *
+   * @return The picked token, empty if every token was revoked.
+   */
+  Optional<PooledToken> acquire(final String resource, final Instant now) {
+    final Optional<PooledToken> picked;
+    synchronized (this) {
+      picked =
+          tokens.stream()
+              .filter(token -> !token.revoked)
+              .max(
+                  Comparator.comparing((PooledToken token) -> !token.isExhausted(resource, now))
+                      .thenComparing(token -> token.estimatedRemaining(resource))
+                      .thenComparing(token -> token.resetOf(resource), Comparator.reverseOrder())
+                      .thenComparing(token -> token.requests.sum(), Comparator.reverseOrder()));
+      picked.ifPresent(token -> token.inFlight.incrementAndGet());
+    }
+    picked.ifPresent(token -> token.requests.increment());
+    return picked;
+  }
+
+  /**
+   * Checks if a request could be sent right away with a token that is neither revoked nor out of
+   * budget.
+   */
+  synchronized boolean hasUsableToken(final String resource, final Instant now) {
+    return tokens.stream().anyMatch(token -> !token.revoked && !token.isExhausted(resource, now));
+  }
+
+  int size() {
+    return tokens.size();
+  }
+
+  List<AuthTokenStats> stats() {
+    return tokens.stream().map(PooledToken::stats).collect(Collectors.toList());
+  }
+
+  /** An auth token and the rate limit budget Github reported for it. */
+  static class PooledToken {
+    @Getter(AccessLevel.PACKAGE)
+    private final String token;
+
+    private final RateLimitTracker rateLimitTracker = new RateLimitTracker();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private volatile boolean revoked;
+    /** Time until which a rate limit rejected requests sent with this token. */
+    private volatile Instant throttledUntil = Instant.MIN;
+
+    private PooledToken(final String token) {
+      this.token = token;
+    }
+
+    /** Records the rate limit headers of a response to a request sent with this token. */
+    void completed(final Map<String, Collection<String>> responseHeaders) {
+      rateLimitTracker.update(responseHeaders);
+      inFlight.decrementAndGet();
+    }
+
+    /** Records that a request sent with this token completed without a response to read. */
+    void released() {
+      inFlight.decrementAndGet();
+    }
+
+    /**
+     * Waits until the budget of this token allows sending a request, as {@code RateLimitedClient}
+     * does for a single token.
+     */
+    void awaitBudget(final String resource, final RateLimitSettings settings)
+        throws InterruptedIOException {
+      RateLimitedClient.awaitBudget(rateLimitTracker, resource, settings);
+    }
+
+    /** Skips the token until a request rejected by a rate limit may be sent again. */
+    void throttled(final Duration retryDelay, final Instant now) {
+      throttledUntil = now.plus(retryDelay);
+    }
+
+    /** Takes the token out of rotation after Github rejected it. */
+    void revoke() {
+      revoked = true;
+    }
+
+    private boolean isExhausted(final String resource, final Instant now) {
+      return (estimatedRemaining(resource) <= 0 && now.isBefore(resetOf(resource)))
+          || now.isBefore(throttledUntil);
+    }
+
+    /**
+     * Reported remaining budget minus the requests in flight. A token without a reported budget
+     * ranks first, so that every token reports its budget early on.
+     */
+    private long estimatedRemaining(final String resource) {
+      return rateLimitTracker
+              .getStatus(resource)
+              .map(status -> (long) status.getRemaining())
+              .orElse(Long.MAX_VALUE / 2)
+          - inFlight.get();
+    }
+
+    private Instant resetOf(final String resource) {
+      final Instant reset =
+          rateLimitTracker.getStatus(resource).map(RateLimitStatus::getReset).orElse(Instant.MIN);
+      return reset.isAfter(throttledUntil) ? reset : throttledUntil;
+    }
+
+    private AuthTokenStats stats() {
+      return new AuthTokenStats(
+          token.substring(Math.max(0, token.length() - 4)),
+          requests.sum(),
+          revoked,
+          rateLimitTracker.getStatus(RateLimitTracker.CORE_RESOURCE).orElse(null),
+          rateLimitTracker.getStatus(RateLimitTracker.GRAPHQL_RESOURCE).orElse(null));
+    }
+  }
+}
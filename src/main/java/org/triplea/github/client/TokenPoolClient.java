@@ -0,0 +1,83 @@
+package org.triplea.github.client;
+
+import feign.Client;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorates a feign client to send each request with an auth token of a {@code TokenPool}. A
+ * request rejected with 401 revokes its token and is sent again with the next token, until no token
+ * is left. A request rejected by a rate limit (403 or 429, see {@code RateLimitedClient}) skips its
+ * token until the limit resets and is sent again with another token, if one has budget left.
+ * Otherwise the rejection is returned, for {@code RateLimitedClient} to retry it.
+ *
+ * <p>Before a request is sent, it is held back by the budget of its token like {@code
+ * RateLimitedClient} does for a client with a single token.
+ */
+@Slf4j
+@AllArgsConstructor
+class TokenPoolClient implements Client {
+  private static final int HTTP_UNAUTHORIZED = 401;
+
+  private final Client delegate;
+  private final TokenPool tokenPool;
+  private final RateLimitSettings settings;
+
+  @Override
+  public Response execute(final Request request, final Request.Options options) throws IOException {
+    final String resource = RateLimitTracker.resourceOf(request.url());
+    for (int rateLimited = 0; ; ) {
+      final Optional<TokenPool.PooledToken> token = tokenPool.acquire(resource, Instant.now());
+      if (token.isEmpty()) {
+        throw new FeignException.Unauthorized(
+            "Every auth token of the pool was rejected by Github", request, null, null);
+      }
+
+      final Response response;
+      try {
+        token.get().awaitBudget(resource, settings);
+        response = delegate.execute(withToken(request, token.get().getToken()), options);
+      } catch (final IOException | RuntimeException e) {
+        token.get().released();
+        throw e;
+      }
+      token.get().completed(response.headers());
+      if (response.status() == HTTP_UNAUTHORIZED) {
+        log.warn("Github rejected an auth token of the pool, it is no longer used");
+        token.get().revoke();
+      } else if (RateLimitedClient.isRateLimited(response)) {
+        final Instant now = Instant.now();
+        token.get().throttled(RateLimitedClient.retryDelay(response, settings, 0), now);
+        if (++rateLimited >= tokenPool.size() || !tokenPool.hasUsableToken(resource, now)) {
+          return response;
+        }
+      } else {
+        return response;
+      }
+      response.close();
+    }
+  }
+
+  private static Request withToken(final Request request, final String token) {
+    final Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    headers.put("Authorization", List.of("token " + token));
+    return Request.create(
+        request.httpMethod(),
+        request.url(),
+        headers,
+        request.body(),
+        request.charset(),
+        request.requestTemplate());
+  }
+}
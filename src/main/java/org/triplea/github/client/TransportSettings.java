@@ -0,0 +1,27 @@
+package org.triplea.github.client;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Configures the pooled HTTP transport of a client. Connections are kept alive and reused between
+ * requests, which saves the TCP and TLS handshakes, and HTTP/2 is negotiated with Github so that
+ * concurrent requests share a connection.
+ */
+@Builder
+@Value
+public class TransportSettings {
+  /** Max number of idle connections kept in the pool. */
+  @Builder.Default int maxIdleConnections = 5;
+
+  /** Idle connections are evicted from the pool after this duration. */
+  @Builder.Default Duration keepAlive = Duration.ofMinutes(5);
+
+  @Builder.Default Duration connectTimeout = Duration.ofSeconds(10);
+
+  @Builder.Default Duration readTimeout = Duration.ofSeconds(60);
+
+  /** Whether HTTP/2 may be negotiated, if disabled all requests use HTTP/1.1. */
+  @Builder.Default boolean http2Enabled = true;
+}
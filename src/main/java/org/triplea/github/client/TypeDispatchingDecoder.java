@@ -0,0 +1,31 @@
+package org.triplea.github.client;
+
+import feign.Response;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decoder that hands each response to the decoder registered for the type being decoded. Types
+ * without a registered decoder are decoded by the fallback decoder.
+ */
+class TypeDispatchingDecoder implements Decoder {
+  private final Decoder fallback;
+  private final Map<Type, Decoder> decodersByType = new HashMap<>();
+
+  TypeDispatchingDecoder(final Decoder fallback) {
+    this.fallback = fallback;
+  }
+
+  TypeDispatchingDecoder register(final Type type, final Decoder decoder) {
+    decodersByType.put(type, decoder);
+    return this;
+  }
+
+  @Override
+  public Object decode(final Response response, final Type type) throws IOException {
+    return decodersByType.getOrDefault(type, fallback).decode(response, type);
+  }
+}
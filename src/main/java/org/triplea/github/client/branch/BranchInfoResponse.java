@@ -1,10 +1,15 @@
 package org.triplea.github.client.branch;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.Instant;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -12,16 +17,51 @@ import lombok.ToString;
  * simplified interface for what is otherwise a JSON response.
  */
 @ToString
-@AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class BranchInfoResponse {
   @JsonProperty("commit")
   private LastCommit commit;
 
+  /**
+   * Parsed date of the last commit. Set when the response is created from a date, otherwise parsed
+   * on first use.
+   */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private transient volatile Instant lastCommitDate;
+
+  public BranchInfoResponse(final LastCommit commit) {
+    this.commit = commit;
+  }
+
+  /** Creates a response for a branch whose last commit was made at the given date. */
+  public static BranchInfoResponse fromLastCommitDate(final Instant lastCommitDate) {
+    final BranchInfoResponse response =
+        new BranchInfoResponse(
+            new LastCommit(
+                new LastCommit.Commit(
+                    new LastCommit.Commit.CommitDetails(lastCommitDate.toString()))));
+    response.lastCommitDate = lastCommitDate;
+    return response;
+  }
+
+  public void setCommit(final LastCommit commit) {
+    this.commit = commit;
+    lastCommitDate = null;
+  }
+
   /** Returns the date of the last commit. */
   public Instant getLastCommitDate() {
-    return Instant.parse(commit.commit.author.date);
+    Instant parsed = lastCommitDate;
+    if (parsed == null) {
+      parsed = Instant.parse(commit.commit.author.date);
+      lastCommitDate = parsed;
+    }
+    return parsed;
   }
 
   @ToString
@@ -1,22 +1,22 @@
 package org.triplea.github.client.issue;
 
-import com.google.common.base.Ascii;
 import javax.annotation.Nonnull;
-import lombok.AllArgsConstructor;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-/** Represents request data to create a github issue. */
-@Builder
+/**
+ * Represents request data to create a github issue. Title and body are truncated to the Github
+ * limits when they are set, getters return the truncated text.
+ */
 @NoArgsConstructor
-@AllArgsConstructor
 @Data
 public class CreateIssueRequest {
-  /** Max length for Github issue title text. */
+  /** Max length for Github issue title text, in UTF-8 bytes. */
   private static final int TITLE_MAX_LENGTH = 125;
 
-  /** Max length for Github issue body text. */
+  /** Max length for Github issue body text, in UTF-8 bytes. */
   private static final int REPORT_BODY_MAX_LENGTH = 65536;
 
   @Nonnull private String repo;
@@ -25,11 +25,25 @@ public class CreateIssueRequest {
 
   private String[] labels;
 
-  public String getTitle() {
-    return Ascii.truncate(title, TITLE_MAX_LENGTH, "...");
+  @Builder
+  public CreateIssueRequest(
+      final String repo, final String title, final String body, final String[] labels) {
+    this.repo = repo;
+    this.title = truncate(title, TITLE_MAX_LENGTH);
+    this.body = truncate(body, REPORT_BODY_MAX_LENGTH);
+    this.labels = labels;
   }
 
-  public String getBody() {
-    return Ascii.truncate(body, REPORT_BODY_MAX_LENGTH, "...");
+  public void setTitle(final String title) {
+    this.title = truncate(title, TITLE_MAX_LENGTH);
+  }
+
+  public void setBody(final String body) {
+    this.body = truncate(body, REPORT_BODY_MAX_LENGTH);
+  }
+
+  @Nullable
+  private static String truncate(@Nullable final String text, final int maxBytes) {
+    return text == null ? null : Utf8Truncation.truncate(text, maxBytes);
   }
 }
@@ -0,0 +1,52 @@
+package org.triplea.github.client.issue;
+
+import lombok.experimental.UtilityClass;
+
+/** Truncates text to a maximum number of UTF-8 encoded bytes. */
+@UtilityClass
+class Utf8Truncation {
+  private static final String ELLIPSIS = "...";
+
+  /**
+   * Truncates text that is longer than 'maxBytes' when UTF-8 encoded, replacing the tail with
+   * "...". Never splits a character, including characters made of a surrogate pair. Text that fits
+   * is returned as is.
+   */
+  static String truncate(final String text, final int maxBytes) {
+    // a char takes at most 3 bytes (a surrogate pair takes 4 bytes for 2 chars)
+    if (text.length() * 3L <= maxBytes) {
+      return text;
+    }
+
+    final int limit = maxBytes - ELLIPSIS.length();
+    int bytes = 0;
+    int cutoff = -1;
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      final int charBytes;
+      final boolean surrogatePair =
+          Character.isHighSurrogate(c)
+              && i + 1 < text.length()
+              && Character.isLowSurrogate(text.charAt(i + 1));
+      if (c < 0x80) {
+        charBytes = 1;
+      } else if (c < 0x800) {
+        charBytes = 2;
+      } else {
+        charBytes = surrogatePair ? 4 : 3;
+      }
+
+      if (cutoff < 0 && bytes + charBytes > limit) {
+        cutoff = i;
+      }
+      bytes += charBytes;
+      if (bytes > maxBytes) {
+        return text.substring(0, cutoff) + ELLIPSIS;
+      }
+      if (surrogatePair) {
+        i++;
+      }
+    }
+    return text;
+  }
+}
@@ -0,0 +1,179 @@
+package org.triplea.github.client.repo;
+
+import com.google.common.base.Preconditions;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable index of the repositories of an organization, built from a repository listing. Lookups
+ * by name take constant time and names can be searched by prefix in sorted order. Being immutable,
+ * an index can be shared between threads and replaced atomically (eg: through an {@code
+ * AtomicReference}) when the listing is refreshed.
+ *
+ * <p>The index is kept compact: names are stored in a sorted array with an open addressing hash
+ * table of array positions, and URLs are stored as a shared prefix plus the repository name (which
+ * for Github is all but always 'https://github.com/{org}/' plus the name). A URI is parsed on its
+ * first lookup and kept in an {@code AtomicReferenceArray}, which safely publishes it to other
+ * threads. Like the cached hash code of a {@code String}, this does not change what the index
+ * holds.
+ */
+public final class RepositoryIndex {
+  /** Index without repositories. */
+  public static final RepositoryIndex EMPTY = of(List.of());
+
+  /** Repository names in ascending order. */
+  private final String[] names;
+
+  /** Distinct URL prefixes, usually only one. */
+  private final String[] urlPrefixes;
+
+  /** Per repository, the position of its URL prefix in {@code urlPrefixes}. */
+  private final int[] urlPrefixIndexes;
+
+  /**
+   * Per repository, the URL after the prefix if it is not the repository name, null otherwise
+   * (which saves storing a second copy of the name).
+   */
+  private final String[] urlSuffixes;
+
+  /** Per repository, the parsed URL, set on first lookup. */
+  private final AtomicReferenceArray<URI> uris;
+
+  /** Hash table of positions in {@code names} plus one, zero marks an empty slot. */
+  private final int[] table;
+
+  private RepositoryIndex(final RepositoryListing[] listings) {
+    names = new String[listings.length];
+    urlPrefixIndexes = new int[listings.length];
+    urlSuffixes = new String[listings.length];
+    uris = new AtomicReferenceArray<>(listings.length);
+    table = new int[tableSize(listings.length)];
+
+    final Map<String, Integer> prefixes = new HashMap<>();
+    for (int i = 0; i < listings.length; i++) {
+      final String name = listings[i].getName();
+      final String url = listings[i].htmlUrl;
+      names[i] = name;
+      final String prefix =
+          url.endsWith(name) ? url.substring(0, url.length() - name.length()) : "";
+      urlPrefixIndexes[i] = prefixes.computeIfAbsent(prefix, key -> prefixes.size());
+      urlSuffixes[i] = prefix.isEmpty() ? url : null;
+
+      int slot = slotOf(name);
+      while (table[slot] != 0) {
+        slot = (slot + 1) & (table.length - 1);
+      }
+      table[slot] = i + 1;
+    }
+    urlPrefixes = new String[prefixes.size()];
+    prefixes.forEach((prefix, index) -> urlPrefixes[index] = prefix);
+  }
+
+  /**
+   * Builds an index of the given repositories. Repositories without a name or URL are skipped, if a
+   * name is listed more than once the first listing is kept.
+   */
+  public static RepositoryIndex of(final Collection<RepositoryListing> repositories) {
+    Preconditions.checkNotNull(repositories);
+    final RepositoryListing[] sorted =
+        repositories.stream()
+            .filter(listing -> listing.getName() != null && listing.htmlUrl != null)
+            .sorted(Comparator.comparing(RepositoryListing::getName))
+            .toArray(RepositoryListing[]::new);
+
+    int distinct = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (distinct == 0 || !sorted[distinct - 1].getName().equals(sorted[i].getName())) {
+        sorted[distinct++] = sorted[i];
+      }
+    }
+    return new RepositoryIndex(Arrays.copyOf(sorted, distinct));
+  }
+
+  private static int tableSize(final int entries) {
+    // power of two with a load factor of at most 0.5
+    return Integer.highestOneBit(Math.max(1, entries) * 2 - 1) << 1;
+  }
+
+  private int slotOf(final String name) {
+    final int hash = name.hashCode();
+    return (hash ^ (hash >>> 16)) & (table.length - 1);
+  }
+
+  private int indexOf(final String name) {
+    int slot = slotOf(name);
+    while (table[slot] != 0) {
+      final int index = table[slot] - 1;
+      if (names[index].equals(name)) {
+        return index;
+      }
+      slot = (slot + 1) & (table.length - 1);
+    }
+    return -1;
+  }
+
+  public boolean contains(final String repositoryName) {
+    return indexOf(repositoryName) >= 0;
+  }
+
+  /** Returns the URL of a repository's Github page, empty if the index has no such repository. */
+  public Optional<URI> getUri(final String repositoryName) {
+    final int index = indexOf(repositoryName);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    final URI cached = uris.get(index);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    final URI parsed =
+        URI.create(
+            urlPrefixes[urlPrefixIndexes[index]]
+                + Optional.ofNullable(urlSuffixes[index]).orElse(names[index]));
+    // racing threads may each parse the URL, the first one to be set is kept
+    return Optional.of(uris.compareAndSet(index, null, parsed) ? parsed : uris.get(index));
+  }
+
+  /** Returns all repository names in ascending order. */
+  public List<String> getNames() {
+    return Collections.unmodifiableList(Arrays.asList(names));
+  }
+
+  /** Returns the names starting with the given prefix, in ascending order. */
+  public List<String> findByPrefix(final String prefix) {
+    Preconditions.checkNotNull(prefix);
+    final int from = lowerBound(prefix);
+    int to = from;
+    while (to < names.length && names[to].startsWith(prefix)) {
+      to++;
+    }
+    return getNames().subList(from, to);
+  }
+
+  /** Position of the first name not less than the given key. */
+  private int lowerBound(final String key) {
+    int low = 0;
+    int high = names.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (names[middle].compareTo(key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  public int size() {
+    return names.length;
+  }
+}
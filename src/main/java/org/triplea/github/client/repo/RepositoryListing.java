@@ -2,6 +2,9 @@ package org.triplea.github.client.repo;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.net.URI;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -22,7 +25,32 @@ public class RepositoryListing {
 
   @Getter String name;
 
+  /**
+   * Time of the last push to any branch (including PR branches), null if unknown. Not part of
+   * equality, a listing identifies a repository.
+   */
+  @Getter @Nullable @EqualsAndHashCode.Exclude Instant pushedAt;
+
+  /** Time the repository itself (eg: description, settings) last changed, null if unknown. */
+  @Getter @Nullable @EqualsAndHashCode.Exclude Instant updatedAt;
+
   public URI getUri() {
     return URI.create(htmlUrl);
   }
+
+  // Jackson has no java.time support without an extra module, timestamps are read as strings.
+  @JsonProperty("pushed_at")
+  private void setPushedAt(@Nullable final String pushedAt) {
+    this.pushedAt = parseInstant(pushedAt);
+  }
+
+  @JsonProperty("updated_at")
+  private void setUpdatedAt(@Nullable final String updatedAt) {
+    this.updatedAt = parseInstant(updatedAt);
+  }
+
+  @Nullable
+  private static Instant parseInstant(@Nullable final String timestamp) {
+    return timestamp == null ? null : OffsetDateTime.parse(timestamp).toInstant();
+  }
 }
@@ -0,0 +1,134 @@
+package org.triplea.github.client;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresentAndIs;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class AsyncGithubClientTest {
+
+  private static AsyncGithubClient newClient(final WireMockServer server) {
+    return ExternalAsyncGithubClient.builder()
+        .authToken("test-token")
+        .githubOrganization("example-org")
+        .uri(URI.create(server.baseUrl()))
+        .build();
+  }
+
+  @Test
+  void fetchBranchInfo(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/repos/example-org/map-repo/branches/master")
+            .withHeader("Authorization", equalTo("token test-token"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/branch_listing_response.json"))));
+
+    try (AsyncGithubClient client = newClient(server)) {
+      final Instant lastCommitDate =
+          client.fetchBranchInfo("map-repo", "master").join().getLastCommitDate();
+
+      assertThat(
+          lastCommitDate,
+          is(LocalDateTime.of(2021, 2, 4, 19, 30, 32).atOffset(ZoneOffset.UTC).toInstant()));
+    }
+  }
+
+  @Test
+  void listRepositories(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/orgs/example-org/repos?per_page=100&page=1")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader(
+                        "Link",
+                        "<"
+                            + server.baseUrl()
+                            + "/orgs/example-org/repos?per_page=100&page=2>; rel=\"last\"")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/repo_listing_response_page1.json"))));
+    server.stubFor(
+        get("/orgs/example-org/repos?per_page=100&page=2")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/repo_listing_response_page2.json"))));
+
+    try (AsyncGithubClient client = newClient(server)) {
+      assertThat(client.listRepositories().join(), hasSize(3));
+    }
+  }
+
+  @Test
+  void fetchLatestVersion(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/repos/example-org/map-repo/releases/latest")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    server.stubFor(
+        get("/repos/example-org/missing-repo/releases/latest")
+            .willReturn(aResponse().withStatus(404)));
+
+    try (AsyncGithubClient client = newClient(server)) {
+      assertThat(client.fetchLatestVersion("map-repo").join(), isPresentAndIs("2.5.22294"));
+      assertThat(client.fetchLatestVersion("missing-repo").join(), isEmpty());
+    }
+  }
+
+  @Test
+  void failuresAreDeliveredOnCallbackExecutor(
+      @WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/repos/example-org/map-repo/branches/master")
+            .willReturn(aResponse().withStatus(500).withFixedDelay(200)));
+    final ExecutorService callbackExecutor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("test-callback-%d").build());
+
+    try (AsyncGithubClient client =
+        ExternalAsyncGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .callbackExecutor(callbackExecutor)
+            .build()) {
+      final String callbackThread =
+          client
+              .fetchBranchInfo("map-repo", "master")
+              .handle((response, e) -> Thread.currentThread().getName())
+              .join();
+
+      assertThat(callbackThread, is("test-callback-0"));
+    } finally {
+      callbackExecutor.shutdownNow();
+    }
+  }
+}
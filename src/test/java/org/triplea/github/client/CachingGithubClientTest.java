@@ -0,0 +1,181 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class CachingGithubClientTest {
+  private static final String RELEASE_PATH = "/repos/example-org/map-repo/releases/latest";
+
+  @Test
+  void concurrentCallsAreCoalesced(@WiremockResolver.Wiremock final WireMockServer server)
+      throws Exception {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withFixedDelay(500)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    final CachingGithubClient client = cachingClient(server);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Optional<String>>> calls =
+          IntStream.range(0, 4)
+              .mapToObj(i -> executor.submit(() -> client.fetchLatestVersion("map-repo")))
+              .collect(Collectors.toList());
+      for (final Future<Optional<String>> call : calls) {
+        assertThat(call.get(), is(Optional.of("2.5.22294")));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    server.verify(1, getRequestedFor(urlEqualTo(RELEASE_PATH)));
+    final OperationCacheStats stats = client.getLatestVersionStats();
+    assertThat(stats.getMissCount(), is(1L));
+    assertThat(stats.getHitCount() + stats.getCoalescedCount(), is(3L));
+  }
+
+  @Test
+  void resultsAreCachedButFailuresAreNot(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    server.stubFor(
+        get("/repos/example-org/missing-repo/releases/latest")
+            .willReturn(aResponse().withStatus(404)));
+    final CachingGithubClient client = cachingClient(server);
+
+    client.fetchLatestVersion("map-repo");
+    client.fetchLatestVersion("map-repo");
+    client.fetchLatestVersion("missing-repo");
+    client.fetchLatestVersion("missing-repo");
+
+    server.verify(1, getRequestedFor(urlEqualTo(RELEASE_PATH)));
+    server.verify(
+        2, getRequestedFor(urlEqualTo("/repos/example-org/missing-repo/releases/latest")));
+    assertThat(client.getLatestVersionStats(), is(new OperationCacheStats(1, 3, 0, 0)));
+  }
+
+  @Test
+  void lastKnownVersionIsServedWhileRefreshFails(
+      @WiremockResolver.Wiremock final WireMockServer server) throws Exception {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .inScenario("outage")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json")))
+            .willSetStateTo("down"));
+    server.stubFor(
+        get(RELEASE_PATH)
+            .inScenario("outage")
+            .whenScenarioStateIs("down")
+            .willReturn(aResponse().withStatus(503)));
+    final CachingGithubClient client =
+        CachingGithubClient.builder()
+            .delegate(
+                ExternalGithubClient.builder()
+                    .githubOrganization("example-org")
+                    .uri(URI.create(server.baseUrl()))
+                    .latestVersionCircuitBreaker(
+                        CircuitBreakerSettings.builder().failureThreshold(1).build())
+                    .build())
+            .latestVersionCache(
+                CacheSettings.builder()
+                    .timeToLive(Duration.ZERO)
+                    .staleWhileRevalidate(Duration.ofMinutes(1))
+                    .build())
+            .build();
+
+    assertThat(client.fetchLatestVersion("map-repo"), is(Optional.of("2.5.22294")));
+    // the first refresh fails and opens the breaker, the next one does not reach Github
+    final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (client.getLatestVersionStats().getMissCount() < 3 && System.nanoTime() < deadline) {
+      assertThat(client.fetchLatestVersion("map-repo"), is(Optional.of("2.5.22294")));
+      Thread.sleep(10);
+    }
+
+    assertThat(client.getLatestVersionStats().getMissCount(), is(3L));
+    server.verify(2, getRequestedFor(urlEqualTo(RELEASE_PATH)));
+  }
+
+  @Test
+  @DisplayName("A load that was in flight when a webhook invalidated the key is not cached")
+  void invalidationWinsOverSlowLoad(@WiremockResolver.Wiremock final WireMockServer server)
+      throws Exception {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withFixedDelay(500)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    final CachingGithubClient client = cachingClient(server);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Optional<String>> slowLoad =
+          executor.submit(() -> client.fetchLatestVersion("map-repo"));
+      while (client.getLatestVersionStats().getMissCount() == 0) {
+        Thread.sleep(10);
+      }
+      client.releaseChanged("map-repo", "2.6.0", "published");
+      assertThat(slowLoad.get(), is(Optional.of("2.5.22294")));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    client.fetchLatestVersion("map-repo");
+    server.verify(2, getRequestedFor(urlEqualTo(RELEASE_PATH)));
+    assertThat(client.getLatestVersionStats().getMissCount(), is(2L));
+  }
+
+  private static CachingGithubClient cachingClient(final WireMockServer server) {
+    return CachingGithubClient.builder()
+        .delegate(
+            ExternalGithubClient.builder()
+                .githubOrganization("example-org")
+                .uri(URI.create(server.baseUrl()))
+                .build())
+        .latestVersionCache(
+            CacheSettings.builder().timeToLive(Duration.ofMinutes(1)).maximumSize(10).build())
+        .build();
+  }
+}
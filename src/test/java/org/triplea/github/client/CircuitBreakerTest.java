@@ -0,0 +1,105 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class CircuitBreakerTest {
+  private static final String RELEASE_PATH = "/repos/example-org/map-repo/releases/latest";
+
+  @Test
+  void repeatedFailuresStopRequests(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(get(RELEASE_PATH).willReturn(aResponse().withStatus(503)));
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .latestVersionCircuitBreaker(
+                CircuitBreakerSettings.builder()
+                    .failureThreshold(2)
+                    .openDuration(Duration.ofMinutes(1))
+                    .build())
+            .build();
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(client.fetchLatestVersion("map-repo"), is(Optional.empty()));
+    }
+
+    server.verify(2, getRequestedFor(urlEqualTo(RELEASE_PATH)));
+  }
+
+  @Test
+  void missingReleaseDoesNotOpenBreaker(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(get(RELEASE_PATH).willReturn(aResponse().withStatus(404)));
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .latestVersionCircuitBreaker(
+                CircuitBreakerSettings.builder().failureThreshold(1).build())
+            .build();
+
+    client.fetchLatestVersion("map-repo");
+    client.fetchLatestVersion("map-repo");
+
+    server.verify(2, getRequestedFor(urlEqualTo(RELEASE_PATH)));
+  }
+
+  @Test
+  void trialCallAfterOpenPeriodClosesBreaker() {
+    final Instant now = Instant.now();
+    final CircuitBreaker breaker =
+        new CircuitBreaker(
+            CircuitBreakerSettings.builder()
+                .failureThreshold(1)
+                .openDuration(Duration.ofSeconds(30))
+                .build());
+
+    breaker.recordFailure(now);
+    assertThat(breaker.tryAcquire(now.plusSeconds(29)), is(false));
+
+    assertThat(breaker.tryAcquire(now.plusSeconds(30)), is(true));
+    assertThat(breaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+    assertThat("only one trial call at a time", breaker.tryAcquire(now.plusSeconds(30)), is(false));
+
+    breaker.recordSuccess();
+    assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+    assertThat(breaker.tryAcquire(now.plusSeconds(30)), is(true));
+  }
+
+  @Test
+  void failedTrialCallReopensBreaker() {
+    final Instant now = Instant.now();
+    final CircuitBreaker breaker =
+        new CircuitBreaker(
+            CircuitBreakerSettings.builder()
+                .failureThreshold(3)
+                .openDuration(Duration.ofSeconds(30))
+                .build());
+    breaker.recordFailure(now);
+    breaker.recordFailure(now);
+    assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+    breaker.recordFailure(now);
+
+    breaker.tryAcquire(now.plusSeconds(30));
+    breaker.recordFailure(now.plusSeconds(30));
+
+    assertThat(breaker.getState(), is(CircuitBreaker.State.OPEN));
+    assertThat(breaker.tryAcquire(now.plusSeconds(59)), is(false));
+    assertThat(breaker.tryAcquire(now.plusSeconds(60)), is(true));
+  }
+}
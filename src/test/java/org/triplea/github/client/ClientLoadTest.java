@@ -0,0 +1,223 @@
+package org.triplea.github.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Drives the client with many concurrent callers against a {@code SimulatedGithub} and reports
+ * throughput and latency percentiles of each scenario. Excluded from the regular build, run with
+ * {@code ./gradlew loadTest}. The simulated organization and the load can be changed with system
+ * properties, eg: {@code ./gradlew loadTest -DloadTest.repositories=20000 -DloadTest.callers=64}.
+ */
+@Slf4j
+@Tag("load")
+class ClientLoadTest {
+  private static final int REPOSITORIES = Integer.getInteger("loadTest.repositories", 5000);
+  private static final int CALLERS = Integer.getInteger("loadTest.callers", 32);
+  private static final int CALLS_PER_CALLER = Integer.getInteger("loadTest.callsPerCaller", 200);
+  private static final int LATENCY_MILLIS = Integer.getInteger("loadTest.latencyMillis", 20);
+  private static final int JITTER_MILLIS = Integer.getInteger("loadTest.jitterMillis", 10);
+  private static final double ERROR_RATE =
+      Double.parseDouble(System.getProperty("loadTest.errorRate", "0.01"));
+
+  private SimulatedGithub github;
+
+  @BeforeEach
+  void startSimulatedGithub() {
+    github =
+        SimulatedGithub.builder()
+            .repositoryCount(REPOSITORIES)
+            .latency(Duration.ofMillis(LATENCY_MILLIS))
+            .jitter(Duration.ofMillis(JITTER_MILLIS))
+            .errorRate(ERROR_RATE)
+            .conditionalRequests(true)
+            .build();
+  }
+
+  @AfterEach
+  void stopSimulatedGithub() {
+    github.close();
+  }
+
+  @ParameterizedTest(name = "pooled transport: {0}")
+  @ValueSource(booleans = {false, true})
+  void concurrentLatestVersionLookups(final boolean pooled) throws Exception {
+    final ExternalGithubClient client = client(pooled).build();
+
+    final Result result = runCallers(random -> client.fetchLatestVersion(randomRepository(random)));
+
+    report("fetchLatestVersion, pooled: " + pooled, result);
+    assertThat(result.latencyNanos.length, is(CALLERS * CALLS_PER_CALLER));
+  }
+
+  @Test
+  void concurrentBranchLookupsWithResponseCache() throws Exception {
+    // a small set of hot repositories, so that most requests are answered with 304
+    final ExternalGithubClient client =
+        client(false).responseCache(new ResponseCache()).compressedResponses(false).build();
+
+    final Result result =
+        runCallers(
+            random -> {
+              try {
+                client.fetchBranchInfo(SimulatedGithub.repositoryName(random.nextInt(50)), "main");
+              } catch (final RuntimeException e) {
+                // simulated server errors
+              }
+            });
+
+    report("fetchBranchInfo with response cache", result);
+    assertThat(github.getNotModifiedCount(), is(greaterThan(0L)));
+  }
+
+  @Test
+  void listRepositoriesOfLargeOrganization() {
+    final ExternalGithubClient client = client(true).bulkRequestParallelism(8).build();
+    final long[] latencyNanos = new long[10];
+    final long start = System.nanoTime();
+    int listed = 0;
+    for (int i = 0; i < latencyNanos.length; i++) {
+      final long callStart = System.nanoTime();
+      try {
+        listed = client.listRepositories().size();
+      } catch (final RuntimeException e) {
+        // simulated server errors
+      }
+      latencyNanos[i] = System.nanoTime() - callStart;
+    }
+
+    report(
+        "listRepositories of " + REPOSITORIES + " repositories",
+        new Result(latencyNanos, Duration.ofNanos(System.nanoTime() - start)));
+    assertThat(listed, is(greaterThan(0)));
+  }
+
+  @Test
+  void bulkLatestVersionLookup() {
+    final ExternalGithubClient client = client(true).bulkRequestParallelism(16).build();
+    final List<String> repositories =
+        IntStream.range(0, REPOSITORIES)
+            .mapToObj(SimulatedGithub::repositoryName)
+            .collect(Collectors.toList());
+
+    final long start = System.nanoTime();
+    final Map<String, LatestVersionResult> results = client.fetchLatestVersions(repositories);
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    final Map<LatestVersionResult.Status, Long> byStatus =
+        results.values().stream()
+            .collect(Collectors.groupingBy(LatestVersionResult::getStatus, Collectors.counting()));
+    log.info(
+        "fetchLatestVersions of {} repositories: {} ms, {} requests/s, results: {}",
+        REPOSITORIES,
+        elapsed.toMillis(),
+        String.format("%.1f", REPOSITORIES * 1000.0 / Math.max(1, elapsed.toMillis())),
+        byStatus);
+    assertThat(results.size(), is(REPOSITORIES));
+  }
+
+  private ExternalGithubClient.ExternalGithubClientBuilder client(final boolean pooled) {
+    final ExternalGithubClient.ExternalGithubClientBuilder builder =
+        ExternalGithubClient.builder()
+            .uri(github.getUri())
+            .githubOrganization(github.getOrganization());
+    return pooled ? builder.transportSettings(TransportSettings.builder().build()) : builder;
+  }
+
+  private static String randomRepository(final ThreadLocalRandom random) {
+    return SimulatedGithub.repositoryName(random.nextInt(REPOSITORIES));
+  }
+
+  /** Runs the given call {@code CALLS_PER_CALLER} times on each of {@code CALLERS} threads. */
+  private static Result runCallers(final Consumer<ThreadLocalRandom> call) throws Exception {
+    final long[][] latencyNanosByCaller = new long[CALLERS][CALLS_PER_CALLER];
+    final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    final long start = System.nanoTime();
+    try {
+      final List<Future<?>> callers = new ArrayList<>();
+      for (final long[] latencyNanos : latencyNanosByCaller) {
+        callers.add(
+            executor.submit(
+                () -> {
+                  for (int n = 0; n < latencyNanos.length; n++) {
+                    final long callStart = System.nanoTime();
+                    call.accept(ThreadLocalRandom.current());
+                    latencyNanos[n] = System.nanoTime() - callStart;
+                  }
+                }));
+      }
+      for (final Future<?> caller : callers) {
+        caller.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    return new Result(
+        Arrays.stream(latencyNanosByCaller).flatMapToLong(Arrays::stream).toArray(), elapsed);
+  }
+
+  private void report(final String scenario, final Result result) {
+    log.info(
+        "{}: {} calls in {} ms, {} calls/s, p50 {} ms, p99 {} ms, max {} ms, mean {} ms;"
+            + " server: {} requests, {} not modified, {} errors",
+        scenario,
+        result.latencyNanos.length,
+        result.elapsed.toMillis(),
+        String.format(
+            "%.1f", result.latencyNanos.length * 1000.0 / Math.max(1, result.elapsed.toMillis())),
+        millis(result.percentileNanos(50)),
+        millis(result.percentileNanos(99)),
+        millis(result.percentileNanos(100)),
+        millis((long) Arrays.stream(result.latencyNanos).average().orElse(0)),
+        github.getRequestCount(),
+        github.getNotModifiedCount(),
+        github.getErrorCount());
+  }
+
+  private static String millis(final long nanos) {
+    return String.format("%.2f", nanos / 1_000_000.0);
+  }
+
+  /** Latencies of all calls of a scenario, exact rather than bucketed like the client metrics. */
+  private static class Result {
+    private final long[] latencyNanos;
+    private final Duration elapsed;
+
+    Result(final long[] latencyNanos, final Duration elapsed) {
+      this.latencyNanos = latencyNanos.clone();
+      Arrays.sort(this.latencyNanos);
+      this.elapsed = elapsed;
+    }
+
+    /** Nearest-rank percentile of the recorded latencies, zero if nothing was recorded. */
+    long percentileNanos(final double percentile) {
+      if (latencyNanos.length == 0) {
+        return 0;
+      }
+      final int rank = (int) Math.ceil(latencyNanos.length * percentile / 100);
+      return latencyNanos[Math.max(0, rank - 1)];
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.triplea.github.client.issue.CreateIssueRequest;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class CompressionTest {
+  private static final String LISTING_PATH = "/orgs/example-org/repos?per_page=100&page=1";
+
+  @Test
+  void compressedListingIsDecoded(@WiremockResolver.Wiremock final WireMockServer server) {
+    stubListing(server);
+
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .build();
+
+    assertThat(client.listRepositories(), hasSize(2));
+    server.verify(
+        getRequestedFor(urlEqualTo(LISTING_PATH))
+            .withHeader("Accept-Encoding", containing("gzip")));
+  }
+
+  @Test
+  void compressionCanBeDisabled(@WiremockResolver.Wiremock final WireMockServer server) {
+    stubListing(server);
+
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .compressedResponses(false)
+            .build();
+
+    assertThat(client.listRepositories(), hasSize(2));
+    server.verify(
+        getRequestedFor(urlEqualTo(LISTING_PATH))
+            .withHeader("Accept-Encoding", equalTo("identity")));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void issueBodyIsSentCompressed(
+      final boolean pooledTransport, @WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        post("/repos/example-org/test/issues")
+            .withHeader("Content-Encoding", equalTo("gzip"))
+            .withRequestBody(
+                equalToJson(TestDataFileReader.readContents("sample_requests/create_issue.json")))
+            .willReturn(
+                aResponse()
+                    .withStatus(201)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/create_issue_response.json"))));
+
+    final ExternalGithubClient.ExternalGithubClientBuilder builder =
+        ExternalGithubClient.builder()
+            .authToken("test-token")
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .gzipRequestBodies(true);
+    if (pooledTransport) {
+      builder.transportSettings(TransportSettings.builder().http2Enabled(false).build());
+    }
+    builder
+        .build()
+        .createIssue(
+            CreateIssueRequest.builder()
+                .title("Test Issue")
+                .repo("test")
+                .body("example content")
+                .labels(new String[] {"Error Report"})
+                .build());
+
+    server.verify(1, postRequestedFor(urlEqualTo("/repos/example-org/test/issues")));
+    assertThat(server.findAllUnmatchedRequests().isEmpty(), is(true));
+  }
+
+  private static void stubListing(final WireMockServer server) {
+    server.stubFor(
+        get(LISTING_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/repo_listing_response_page1.json"))));
+    server.stubFor(
+        get("/orgs/example-org/repos?per_page=100&page=2")
+            .willReturn(aResponse().withStatus(200).withBody("[]")));
+  }
+}
@@ -0,0 +1,56 @@
+package org.triplea.github.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.jackson.JacksonEncoder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.triplea.github.client.issue.CreateIssueRequest;
+
+class CreateIssueRequestEncoderTest {
+  private final CreateIssueRequestEncoder encoder =
+      new CreateIssueRequestEncoder(new JacksonEncoder());
+
+  private JsonNode encode(final CreateIssueRequest request) throws IOException {
+    final RequestTemplate template = new RequestTemplate();
+    encoder.encode(request, CreateIssueRequest.class, template);
+    return new ObjectMapper().readTree(template.body());
+  }
+
+  @Test
+  void requestIsEncoded() throws IOException {
+    final JsonNode json =
+        encode(
+            CreateIssueRequest.builder()
+                .repo("test")
+                .title("Test Issue")
+                .body("example content")
+                .labels(new String[] {"Error Report"})
+                .build());
+
+    assertThat(
+        json,
+        is(
+            new ObjectMapper()
+                .readTree(TestDataFileReader.readContents("sample_requests/create_issue.json"))));
+  }
+
+  @Test
+  void longBodyIsTruncatedAtCharacterBoundary() throws IOException {
+    // each emoji is a surrogate pair taking 4 bytes, 20000 of them are 80000 bytes
+    final String body = "😀".repeat(20000);
+
+    final JsonNode json =
+        encode(CreateIssueRequest.builder().repo("test").title("Crash").body(body).build());
+
+    final String encodedBody = json.get("body").asText();
+    assertThat(encodedBody.getBytes(StandardCharsets.UTF_8).length, is(65535));
+    assertThat(encodedBody, is("😀".repeat(16383) + "..."));
+    assertThat(json.has("labels"), is(false));
+  }
+}
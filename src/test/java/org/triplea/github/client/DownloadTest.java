@@ -0,0 +1,163 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class DownloadTest {
+  private static final String ARCHIVE_PATH = "/repos/example-org/map-repo/zipball/master";
+  private static final String STORAGE_PATH = "/storage/map-repo-master.zip";
+  private static final String ETAG = "\"0x8DB5A0F2C4E1B7A\"";
+
+  private static final byte[] CONTENT = new byte[3 * 1024 * 1024 + 17];
+
+  static {
+    new Random(42).nextBytes(CONTENT);
+  }
+
+  @TempDir Path tempDir;
+
+  @Test
+  void archiveIsDownloadedFromRedirectWithoutAuthToken(
+      @WiremockResolver.Wiremock final WireMockServer server) throws IOException {
+    server.stubFor(
+        get(ARCHIVE_PATH)
+            .withHeader("Authorization", equalTo("token test-token"))
+            .willReturn(
+                aResponse()
+                    .withStatus(302)
+                    // a different host than the API's 'localhost', as for Github's storage host
+                    .withHeader("Location", "http://127.0.0.1:" + server.port() + STORAGE_PATH)));
+    server.stubFor(get(STORAGE_PATH).willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+    final Path target = tempDir.resolve("map-repo.zip");
+
+    final DownloadResult result =
+        client(server).downloadRepositoryArchive("map-repo", "master", target);
+
+    assertThat(Arrays.equals(Files.readAllBytes(target), CONTENT), is(true));
+    assertThat(result.getSize(), is((long) CONTENT.length));
+    assertThat(result.getSha256(), is(sha256(CONTENT)));
+    assertThat(result.isResumed(), is(false));
+    server.verify(getRequestedFor(urlEqualTo(STORAGE_PATH)).withHeader("Authorization", absent()));
+  }
+
+  @Test
+  void interruptedDownloadIsResumed(@WiremockResolver.Wiremock final WireMockServer server)
+      throws IOException {
+    final int partialSize = 1024 * 1024;
+    server.stubFor(
+        get(STORAGE_PATH)
+            .withHeader("Range", equalTo("bytes=" + partialSize + "-"))
+            .withHeader("If-Range", equalTo(ETAG))
+            .willReturn(
+                aResponse()
+                    .withStatus(206)
+                    .withHeader(
+                        "Content-Range",
+                        "bytes " + partialSize + "-" + (CONTENT.length - 1) + "/" + CONTENT.length)
+                    .withBody(Arrays.copyOfRange(CONTENT, partialSize, CONTENT.length))));
+    final Path target = tempDir.resolve("asset.zip");
+    final URI source = URI.create(server.baseUrl() + STORAGE_PATH);
+    writePartialDownload(target, source, Arrays.copyOf(CONTENT, partialSize));
+
+    final DownloadResult result =
+        client(server).downloadReleaseAsset(source, target, sha256(CONTENT));
+
+    assertThat(Arrays.equals(Files.readAllBytes(target), CONTENT), is(true));
+    assertThat(result.getSha256(), is(sha256(CONTENT)));
+    assertThat(result.isResumed(), is(true));
+    assertThat(Files.exists(tempDir.resolve("asset.zip.part")), is(false));
+    assertThat(Files.exists(tempDir.resolve("asset.zip.part.validator")), is(false));
+  }
+
+  @Test
+  @DisplayName("A changed file (200 answer to a range request) is downloaded from the start")
+  void changedFileRestartsDownload(@WiremockResolver.Wiremock final WireMockServer server)
+      throws IOException {
+    server.stubFor(get(STORAGE_PATH).willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+    final Path target = tempDir.resolve("asset.zip");
+    final URI source = URI.create(server.baseUrl() + STORAGE_PATH);
+    writePartialDownload(target, source, new byte[] {1, 2, 3});
+
+    final DownloadResult result = client(server).downloadReleaseAsset(source, target, null);
+
+    assertThat(Arrays.equals(Files.readAllBytes(target), CONTENT), is(true));
+    assertThat(result.isResumed(), is(false));
+    server.verify(getRequestedFor(urlEqualTo(STORAGE_PATH)).withHeader("If-Range", equalTo(ETAG)));
+  }
+
+  @Test
+  @DisplayName("An existing target that the downloader did not create is replaced, not resumed")
+  void existingTargetIsNotResumed(@WiremockResolver.Wiremock final WireMockServer server)
+      throws IOException {
+    server.stubFor(get(STORAGE_PATH).willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+    final Path target = tempDir.resolve("asset.zip");
+    Files.write(target, Arrays.copyOf(CONTENT, 1024));
+
+    final DownloadResult result =
+        client(server)
+            .downloadReleaseAsset(URI.create(server.baseUrl() + STORAGE_PATH), target, null);
+
+    assertThat(Arrays.equals(Files.readAllBytes(target), CONTENT), is(true));
+    assertThat(result.isResumed(), is(false));
+    server.verify(getRequestedFor(urlEqualTo(STORAGE_PATH)).withHeader("Range", absent()));
+  }
+
+  @Test
+  void checksumMismatchDeletesDownload(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(get(STORAGE_PATH).willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+    final Path target = tempDir.resolve("asset.zip");
+
+    assertThrows(
+        IOException.class,
+        () ->
+            client(server)
+                .downloadReleaseAsset(
+                    URI.create(server.baseUrl() + STORAGE_PATH), target, sha256(new byte[0])));
+    assertThat(Files.exists(target), is(false));
+  }
+
+  /** Writes the files left behind by an interrupted download. */
+  private static void writePartialDownload(
+      final Path target, final URI source, final byte[] partialContent) throws IOException {
+    Files.write(target.resolveSibling(target.getFileName() + ".part"), partialContent);
+    Files.write(
+        target.resolveSibling(target.getFileName() + ".part.validator"),
+        List.of(source.toString(), ETAG));
+  }
+
+  private static ExternalGithubClient client(final WireMockServer server) {
+    return ExternalGithubClient.builder()
+        .authToken("test-token")
+        .githubOrganization("example-org")
+        .uri(URI.create(server.baseUrl()))
+        .build();
+  }
+
+  private static String sha256(final byte[] content) {
+    return Hashing.sha256().hashBytes(content).toString();
+  }
+}
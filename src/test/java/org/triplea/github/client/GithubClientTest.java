@@ -1,12 +1,18 @@
 package org.triplea.github.client;
 
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresentAndIs;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
 
@@ -16,6 +22,11 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -76,6 +87,90 @@ class GithubClientTest {
                 .build()));
   }
 
+  @Test
+  @DisplayName("Read last page number from 'Link' header, do not request a trailing empty page")
+  void repoListingWithLinkHeader(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/orgs/example-org/repos?per_page=100&page=1")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader(
+                        "Link",
+                        "<"
+                            + server.baseUrl()
+                            + "/orgs/example-org/repos?per_page=100&page=2>; rel=\"next\", <"
+                            + server.baseUrl()
+                            + "/orgs/example-org/repos?per_page=100&page=3>; rel=\"last\"")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/repo_listing_response_page1.json"))));
+    stubRepoListingResponse(
+        2,
+        server,
+        TestDataFileReader.readContents("sample_responses/repo_listing_response_page2.json"));
+    stubRepoListingResponse(
+        3,
+        server,
+        TestDataFileReader.readContents("sample_responses/repo_listing_response_page2.json"));
+
+    final Collection<RepositoryListing> repos =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .bulkRequestParallelism(2)
+            .build()
+            .listRepositories();
+
+    assertThat(repos, hasSize(3));
+    server.verify(0, getRequestedFor(urlEqualTo("/orgs/example-org/repos?per_page=100&page=4")));
+  }
+
+  @Test
+  void streamRepositories(@WiremockResolver.Wiremock final WireMockServer server) {
+    stubRepoListingResponse(
+        1,
+        server,
+        TestDataFileReader.readContents("sample_responses/repo_listing_response_page1.json"));
+    stubRepoListingResponse(
+        2,
+        server,
+        TestDataFileReader.readContents("sample_responses/repo_listing_response_page2.json"));
+    stubRepoListingResponse(3, server, "[]");
+
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .build();
+
+    try (Stream<RepositoryListing> repos = client.streamRepositories()) {
+      assertThat(
+          repos.map(RepositoryListing::getName).collect(Collectors.toList()),
+          contains("tutorial", "aa_enhanced_revised", "roman_invasion"));
+    }
+  }
+
+  @Test
+  @DisplayName("Pages after the one being read are not requested when a stream stops early")
+  void streamRepositoriesStopsEarly(@WiremockResolver.Wiremock final WireMockServer server) {
+    stubRepoListingResponse(
+        1,
+        server,
+        TestDataFileReader.readContents("sample_responses/repo_listing_response_page1.json"));
+
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .build();
+
+    try (Stream<RepositoryListing> repos = client.streamRepositories()) {
+      assertThat(repos.findFirst().map(RepositoryListing::getName), isPresentAndIs("tutorial"));
+    }
+    server.verify(0, getRequestedFor(urlEqualTo("/orgs/example-org/repos?per_page=100&page=2")));
+  }
+
   private void stubRepoListingResponse(
       final int expectedPageNumber, final WireMockServer server, final String response) {
     server.stubFor(
@@ -107,6 +202,117 @@ class GithubClientTest {
     assertThat(branchInfoResponse.getLastCommitDate(), is(expectedLastCommitDate));
   }
 
+  @Test
+  @DisplayName("Fetch branch info of many repositories in batched GraphQL queries")
+  void fetchBranchInfos(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        post("/graphql")
+            .withHeader("Authorization", equalTo("token test-token"))
+            .withRequestBody(matchingJsonPath("$.variables.repo0", equalTo("map-repo")))
+            .withRequestBody(matchingJsonPath("$.variables.repo1", equalTo("missing-repo")))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/graphql_branch_info_response.json"))));
+    server.stubFor(
+        post("/graphql")
+            .withRequestBody(matchingJsonPath("$.variables.repo0", equalTo("other-repo")))
+            .withRequestBody(matchingJsonPath("$.variables.branch0", equalTo("refs/heads/main")))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        "{\"data\": {\"r0\": {\"ref\": {\"target\": "
+                            + "{\"author\": {\"date\": \"2022-01-01T00:00:00Z\"}}}}}}")));
+
+    final Map<String, String> branches = new LinkedHashMap<>();
+    branches.put("map-repo", "master");
+    branches.put("missing-repo", "master");
+    branches.put("other-repo", "main");
+
+    final Map<String, BranchInfoResponse> branchInfos =
+        ExternalGithubClient.builder()
+            .authToken("test-token")
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .graphqlBatchSize(2)
+            .build()
+            .fetchBranchInfos(branches);
+
+    assertThat(branchInfos.keySet(), containsInAnyOrder("map-repo", "other-repo"));
+    assertThat(
+        branchInfos.get("map-repo").getLastCommitDate(),
+        is(LocalDateTime.of(2021, 2, 4, 19, 30, 32).atOffset(ZoneOffset.UTC).toInstant()));
+    assertThat(
+        branchInfos.get("other-repo").getLastCommitDate(),
+        is(LocalDateTime.of(2022, 1, 1, 0, 0, 0).atOffset(ZoneOffset.UTC).toInstant()));
+  }
+
+  @Test
+  @DisplayName("Fetch latest releases of many repositories in a batched GraphQL query")
+  void fetchLatestVersions(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        post("/graphql")
+            .withHeader("Authorization", equalTo("token test-token"))
+            .withRequestBody(matchingJsonPath("$.variables.repo2", equalTo("missing-repo")))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/graphql_latest_release_response.json"))));
+
+    final Map<String, LatestVersionResult> versions =
+        ExternalGithubClient.builder()
+            .authToken("test-token")
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .build()
+            .fetchLatestVersions(List.of("map-repo", "unreleased-repo", "missing-repo"));
+
+    assertThat(versions.get("map-repo").getVersion(), isPresentAndIs("2.5.22294"));
+    assertThat(
+        versions.get("unreleased-repo").getStatus(), is(LatestVersionResult.Status.NO_RELEASE));
+    assertThat(versions.get("missing-repo").getStatus(), is(LatestVersionResult.Status.ERROR));
+    assertThat(
+        versions.get("missing-repo").getError(),
+        isPresentAndIs(
+            "Could not resolve to a Repository with the name 'example-org/missing-repo'."));
+  }
+
+  @Test
+  @DisplayName("Fetch latest releases of many repositories through REST without an auth token")
+  void fetchLatestVersionsWithoutToken(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/repos/example-org/map-repo/releases/latest")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    server.stubFor(
+        get("/repos/example-org/unreleased-repo/releases/latest")
+            .willReturn(aResponse().withStatus(404)));
+    server.stubFor(
+        get("/repos/example-org/broken-repo/releases/latest")
+            .willReturn(aResponse().withStatus(500)));
+
+    final Map<String, LatestVersionResult> versions =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .build()
+            .fetchLatestVersions(List.of("map-repo", "unreleased-repo", "broken-repo"));
+
+    assertThat(versions.get("map-repo").getVersion(), isPresentAndIs("2.5.22294"));
+    assertThat(
+        versions.get("unreleased-repo").getStatus(), is(LatestVersionResult.Status.NO_RELEASE));
+    assertThat(versions.get("broken-repo").getStatus(), is(LatestVersionResult.Status.ERROR));
+  }
+
   @Test
   void getLatestRelease(@WiremockResolver.Wiremock final WireMockServer server) {
     final String exampleResponse =
@@ -0,0 +1,176 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.google.common.io.BaseEncoding;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class GithubWebhookReceiverTest {
+  private static final String SECRET = "webhook-secret";
+
+  private final List<String> events = new CopyOnWriteArrayList<>();
+
+  private final GithubWebhookListener recordingListener =
+      new GithubWebhookListener() {
+        @Override
+        public void branchPushed(
+            final String repositoryName,
+            final String branchName,
+            @Nullable final Instant headCommitDate) {
+          events.add("push " + repositoryName + " " + branchName + " " + headCommitDate);
+        }
+
+        @Override
+        public void releaseChanged(
+            final String repositoryName, final String tagName, final String action) {
+          events.add("release " + repositoryName + " " + tagName + " " + action);
+        }
+
+        @Override
+        public void repositoryChanged(final String repositoryName, final String action) {
+          events.add("repository " + repositoryName + " " + action);
+        }
+      };
+
+  @Test
+  void signedEventsAreDispatched() throws Exception {
+    try (GithubWebhookReceiver receiver = receiver("triplea-maps", recordingListener)) {
+      assertThat(deliver(receiver, "push", "push_event.json", SECRET), is(204));
+      assertThat(deliver(receiver, "release", "release_event.json", SECRET), is(204));
+      assertThat(deliver(receiver, "repository", "repository_renamed_event.json", SECRET), is(204));
+    }
+
+    assertThat(
+        events,
+        contains(
+            "push tutorial master 2021-03-01T18:15:30Z",
+            "release tutorial 2.6.0 published",
+            "repository tutorial-map renamed",
+            "repository tutorial renamed"));
+  }
+
+  @Test
+  void deliveriesWithoutValidSignatureAreRejected() throws Exception {
+    try (GithubWebhookReceiver receiver = receiver(null, recordingListener)) {
+      assertThat(deliver(receiver, "push", "push_event.json", "wrong-secret"), is(401));
+      assertThat(deliver(receiver, "push", "push_event.json", null), is(401));
+    }
+
+    assertThat(events, is(empty()));
+  }
+
+  @Test
+  void eventsOfOtherOrganizationsAreIgnored() throws Exception {
+    try (GithubWebhookReceiver receiver = receiver("other-org", recordingListener)) {
+      assertThat(deliver(receiver, "push", "push_event.json", SECRET), is(204));
+    }
+
+    assertThat(events, is(empty()));
+  }
+
+  @Test
+  void eventsUpdateCachingClient(@WiremockResolver.Wiremock final WireMockServer server)
+      throws Exception {
+    final String branchPath = "/repos/triplea-maps/tutorial/branches/master";
+    final String releasePath = "/repos/triplea-maps/tutorial/releases/latest";
+    server.stubFor(
+        get(branchPath)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/branch_listing_response.json"))));
+    server.stubFor(
+        get(releasePath)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    final CachingGithubClient client =
+        CachingGithubClient.builder()
+            .delegate(
+                ExternalGithubClient.builder()
+                    .githubOrganization("triplea-maps")
+                    .uri(URI.create(server.baseUrl()))
+                    .build())
+            .build();
+    client.fetchBranchInfo("tutorial", "master");
+    client.fetchLatestVersion("tutorial");
+
+    try (GithubWebhookReceiver receiver = receiver("triplea-maps", client)) {
+      deliver(receiver, "push", "push_event.json", SECRET);
+      deliver(receiver, "release", "release_event.json", SECRET);
+    }
+
+    assertThat(
+        client.fetchBranchInfo("tutorial", "master"),
+        is(BranchInfoResponse.fromLastCommitDate(Instant.parse("2021-03-01T18:15:30Z"))));
+    client.fetchLatestVersion("tutorial");
+    server.verify(1, getRequestedFor(urlEqualTo(branchPath)));
+    server.verify(2, getRequestedFor(urlEqualTo(releasePath)));
+  }
+
+  private static GithubWebhookReceiver receiver(
+      @Nullable final String githubOrganization, final GithubWebhookListener listener)
+      throws Exception {
+    return GithubWebhookReceiver.builder()
+        .secret(SECRET)
+        .githubOrganization(githubOrganization)
+        .listeners(List.of(listener))
+        .build();
+  }
+
+  private static int deliver(
+      final GithubWebhookReceiver receiver,
+      final String eventType,
+      final String payloadFile,
+      @Nullable final String secret)
+      throws Exception {
+    final byte[] payload =
+        TestDataFileReader.readContents("sample_webhooks/" + payloadFile)
+            .getBytes(StandardCharsets.UTF_8);
+    final HttpRequest.Builder request =
+        HttpRequest.newBuilder(receiver.getUri())
+            .header("Content-Type", "application/json")
+            .header(GithubWebhookReceiver.EVENT_HEADER, eventType)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(payload));
+    if (secret != null) {
+      request.header(
+          GithubWebhookReceiver.SIGNATURE_HEADER,
+          "sha256="
+              + BaseEncoding.base16()
+                  .lowerCase()
+                  .encode(
+                      GithubWebhookReceiver.sign(
+                          secret.getBytes(StandardCharsets.UTF_8), payload)));
+    }
+    return HttpClient.newHttpClient()
+        .send(request.build(), HttpResponse.BodyHandlers.discarding())
+        .statusCode();
+  }
+}
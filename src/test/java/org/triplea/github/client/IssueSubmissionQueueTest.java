@@ -0,0 +1,101 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.triplea.github.client.issue.CreateIssueRequest;
+import org.triplea.github.client.issue.CreateIssueResponse;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class IssueSubmissionQueueTest {
+  private static final String ISSUES_PATH = "/repos/example-org/test/issues";
+
+  @Test
+  void identicalReportsAreSentOnce(@WiremockResolver.Wiremock final WireMockServer server)
+      throws Exception {
+    stubCreateIssue(server, 0);
+
+    try (IssueSubmissionQueue queue =
+        IssueSubmissionQueue.builder()
+            .githubClient(client(server))
+            .sendInterval(Duration.ofMillis(10))
+            .build()) {
+      final CompletableFuture<CreateIssueResponse> first = queue.submit(issue("Error in map"));
+      final CompletableFuture<CreateIssueResponse> duplicate = queue.submit(issue("Error in map"));
+      final CompletableFuture<CreateIssueResponse> other = queue.submit(issue("Other error"));
+
+      assertThat(duplicate, is(not(sameInstance(first))));
+      assertThat(first.cancel(false), is(true));
+      assertThat(
+          duplicate.get().getHtmlUrl(), is("https://github.com/triplea-game/test/issues/65"));
+      other.get();
+      assertThat(queue.getDuplicateCount(), is(1L));
+      assertThat(queue.getSentCount(), is(2L));
+    }
+    server.verify(2, postRequestedFor(urlEqualTo(ISSUES_PATH)));
+  }
+
+  @Test
+  void submissionsAreRejectedWhenQueueIsFull(@WiremockResolver.Wiremock final WireMockServer server)
+      throws Exception {
+    stubCreateIssue(server, 500);
+
+    try (IssueSubmissionQueue queue =
+        IssueSubmissionQueue.builder().githubClient(client(server)).capacity(1).build()) {
+      final CompletableFuture<CreateIssueResponse> inFlight = queue.submit(issue("first"));
+      for (int i = 0; i < 100 && queue.getQueuedCount() > 0; i++) {
+        Thread.sleep(10);
+      }
+      final CompletableFuture<CreateIssueResponse> queued = queue.submit(issue("second"));
+      final CompletableFuture<CreateIssueResponse> rejected = queue.submit(issue("third"));
+
+      final ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+      assertThat(exception.getCause(), is(instanceOf(RejectedExecutionException.class)));
+      assertThat(queue.getRejectedCount(), is(1L));
+      inFlight.get();
+      queued.get();
+    }
+  }
+
+  private static void stubCreateIssue(final WireMockServer server, final int delayMillis) {
+    server.stubFor(
+        post(ISSUES_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(201)
+                    .withFixedDelay(delayMillis)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/create_issue_response.json"))));
+  }
+
+  private static GithubClient client(final WireMockServer server) {
+    return ExternalGithubClient.builder()
+        .authToken("test-token")
+        .githubOrganization("example-org")
+        .uri(URI.create(server.baseUrl()))
+        .build();
+  }
+
+  private static CreateIssueRequest issue(final String title) {
+    return CreateIssueRequest.builder().repo("test").title(title).body("stack trace").build();
+  }
+}
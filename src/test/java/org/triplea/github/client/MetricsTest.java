@@ -0,0 +1,76 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class MetricsTest {
+  private static final String RELEASE_PATH = "/repos/example-org/map-repo/releases/latest";
+
+  @Test
+  void responsesAndRetriesAreRecordedPerEndpoint(
+      @WiremockResolver.Wiremock final WireMockServer server) {
+    final String latestRelease =
+        TestDataFileReader.readContents("sample_responses/latest_release_response.json");
+    server.stubFor(
+        get(RELEASE_PATH)
+            .inScenario("secondary-rate-limit")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "0"))
+            .willSetStateTo("retried"));
+    server.stubFor(
+        get(RELEASE_PATH)
+            .inScenario("secondary-rate-limit")
+            .whenScenarioStateIs("retried")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("X-RateLimit-Remaining", "4321")
+                    .withHeader("Content-Length", String.valueOf(latestRelease.length()))
+                    .withBody(latestRelease)));
+    server.stubFor(
+        get("/repos/example-org/map-repo/branches/master")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("X-RateLimit-Remaining", "4320")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/branch_listing_response.json"))));
+
+    final GithubMetricsRecorder recorder = new GithubMetricsRecorder();
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .rateLimitSettings(RateLimitSettings.builder().maxRetries(1).build())
+            .metricsListener(recorder)
+            // compressed responses have no length up front
+            .compressedResponses(false)
+            .build();
+
+    client.fetchLatestVersion("map-repo");
+    client.fetchBranchInfo("map-repo", "master");
+
+    assertThat(recorder.getEndpoints(), is(Set.of("getBranchInfo", "getLatestRelease")));
+    final EndpointMetrics releaseMetrics = recorder.getEndpointMetrics("getLatestRelease").get();
+    assertThat(releaseMetrics.getStatusCounts(), is(Map.of(200, 1L, 429, 1L)));
+    assertThat(releaseMetrics.getRetryCount(), is(1L));
+    assertThat(releaseMetrics.getLatency().getCount(), is(2L));
+    assertThat(releaseMetrics.getResponseBytes(), is((long) latestRelease.length()));
+    assertThat(recorder.getRateLimitRemaining("core"), is(OptionalInt.of(4320)));
+  }
+}
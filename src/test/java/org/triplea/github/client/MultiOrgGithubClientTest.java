@@ -0,0 +1,80 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.triplea.github.client.repo.RepositoryListing;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class MultiOrgGithubClientTest {
+
+  @Test
+  void organizationsShareRateLimitBudget(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/repos/org-a/map-repo/releases/latest")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("X-RateLimit-Limit", "5000")
+                    .withHeader("X-RateLimit-Remaining", "10")
+                    .withHeader("X-RateLimit-Reset", "1700000000")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    final MultiOrgGithubClient clients = new MultiOrgGithubClient(client(server, "org-a"));
+
+    clients.forOrganization("org-a").fetchLatestVersion("map-repo");
+
+    final GithubClient orgB = clients.forOrganization("org-b");
+    assertThat(orgB, is(sameInstance(clients.forOrganization("org-b"))));
+    assertThat(orgB.getRateLimitStatus().get().getRemaining(), is(10));
+  }
+
+  @Test
+  void listRepositoriesOfSeveralOrganizations(
+      @WiremockResolver.Wiremock final WireMockServer server) {
+    stubListing(server, "org-a", "sample_responses/repo_listing_response_page1.json");
+    stubListing(server, "org-b", "sample_responses/repo_listing_response_page2.json");
+    final MultiOrgGithubClient clients = new MultiOrgGithubClient(client(server, "org-a"));
+
+    final Map<String, Collection<RepositoryListing>> repositories =
+        clients.listRepositories(List.of("org-a", "org-b"));
+
+    assertThat(repositories.get("org-a"), hasSize(2));
+    assertThat(repositories.get("org-b"), hasSize(1));
+  }
+
+  private static void stubListing(
+      final WireMockServer server, final String organization, final String firstPageFile) {
+    server.stubFor(
+        get("/orgs/" + organization + "/repos?per_page=100&page=1")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(TestDataFileReader.readContents(firstPageFile))));
+    server.stubFor(
+        get("/orgs/" + organization + "/repos?per_page=100&page=2")
+            .willReturn(aResponse().withStatus(200).withBody("[]")));
+  }
+
+  private static ExternalGithubClient client(
+      final WireMockServer server, final String organization) {
+    return ExternalGithubClient.builder()
+        .githubOrganization(organization)
+        .uri(URI.create(server.baseUrl()))
+        .build();
+  }
+}
@@ -0,0 +1,54 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class PooledTransportTest {
+
+  @Test
+  void connectionIsReusedBetweenRequests(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/repos/example-org/map-repo/releases/latest")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    final ExternalGithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .transportSettings(TransportSettings.builder().build())
+            .build();
+
+    client.fetchLatestVersion("map-repo");
+    client.fetchLatestVersion("map-repo");
+
+    final ConnectionPoolStats stats = client.getConnectionPoolStats().orElseThrow();
+    assertThat(stats.getConnectionsOpened(), is(1L));
+    assertThat(stats.getConnectionsReused(), is(1L));
+    assertThat(stats.getConnectionCount(), is(1));
+  }
+
+  @Test
+  void noStatsWithoutPooledTransport(@WiremockResolver.Wiremock final WireMockServer server) {
+    final ExternalGithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .build();
+
+    assertThat(client.getConnectionPoolStats().isPresent(), is(false));
+  }
+}
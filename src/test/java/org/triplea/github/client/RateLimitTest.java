@@ -0,0 +1,120 @@
+package org.triplea.github.client;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class RateLimitTest {
+  private static final String RELEASE_PATH = "/repos/example-org/map-repo/releases/latest";
+
+  @Test
+  void rateLimitStatusIsReadFromResponseHeaders(
+      @WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("X-RateLimit-Limit", "5000")
+                    .withHeader("X-RateLimit-Remaining", "4321")
+                    .withHeader("X-RateLimit-Reset", "1700000000")
+                    .withHeader("X-RateLimit-Resource", "core")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .build();
+
+    client.fetchLatestVersion("map-repo");
+
+    final RateLimitStatus status = client.getRateLimitStatus().orElseThrow();
+    assertThat(status.getLimit(), is(5000));
+    assertThat(status.getRemaining(), is(4321));
+    assertThat(status.getReset(), is(Instant.ofEpochSecond(1700000000)));
+  }
+
+  @Test
+  void secondaryRateLimitedRequestIsRetried(
+      @WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .inScenario("secondary-rate-limit")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(aResponse().withStatus(403).withHeader("Retry-After", "0"))
+            .willSetStateTo("retried"));
+    server.stubFor(
+        get(RELEASE_PATH)
+            .inScenario("secondary-rate-limit")
+            .whenScenarioStateIs("retried")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+
+    final GithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .rateLimitSettings(RateLimitSettings.builder().maxRetries(1).build())
+            .build();
+
+    assertThat(client.fetchLatestVersion("map-repo"), isPresent());
+    server.verify(2, getRequestedFor(urlEqualTo(RELEASE_PATH)));
+  }
+
+  @Test
+  void lowBudgetSpreadsRequestsUntilReset() {
+    final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    final RateLimitTracker rateLimitTracker = new RateLimitTracker();
+    rateLimitTracker.update(
+        Map.of(
+            "X-RateLimit-Limit", List.of("60"),
+            "X-RateLimit-Remaining", List.of("2"),
+            "X-RateLimit-Reset", List.of(String.valueOf(now.plusSeconds(10).getEpochSecond()))));
+
+    assertThat(rateLimitTracker.reserve("core", 100, now), is(Duration.ZERO));
+    assertThat(rateLimitTracker.reserve("core", 100, now), is(Duration.ofSeconds(5)));
+    assertThat(rateLimitTracker.reserve("core", 1, now), is(Duration.ZERO));
+  }
+
+  @Test
+  void abandonedReservationDoesNotDelayLaterRequests() {
+    final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    final RateLimitTracker rateLimitTracker = new RateLimitTracker();
+    rateLimitTracker.update(
+        Map.of(
+            "X-RateLimit-Limit", List.of("60"),
+            "X-RateLimit-Remaining", List.of("2"),
+            "X-RateLimit-Reset", List.of(String.valueOf(now.plusSeconds(10).getEpochSecond()))));
+    rateLimitTracker.reserve("core", 100, now);
+
+    // the caller does not wait 5 seconds and sends its request right away
+    assertThat(
+        rateLimitTracker.reserve("core", 100, Duration.ofSeconds(1), now),
+        is(Duration.ofSeconds(5)));
+    assertThat(rateLimitTracker.reserve("core", 100, now), is(Duration.ofSeconds(5)));
+  }
+}
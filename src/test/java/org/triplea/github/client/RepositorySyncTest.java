@@ -0,0 +1,103 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class RepositorySyncTest {
+
+  @Test
+  void onlyChangedRepositoriesAreRefetched(@WiremockResolver.Wiremock final WireMockServer server) {
+    final String page1 =
+        TestDataFileReader.readContents("sample_responses/repo_listing_response_page1.json");
+    final String page2 =
+        TestDataFileReader.readContents("sample_responses/repo_listing_response_page2.json");
+    stubListing(server, page1, page2);
+    stubBranch(server, "tutorial");
+    stubBranch(server, "aa_enhanced_revised");
+    server.stubFor(
+        get("/repos/example-org/roman_invasion/branches/master")
+            .willReturn(aResponse().withStatus(404)));
+    final RepositorySync repositorySync =
+        RepositorySync.builder()
+            .githubClient(
+                ExternalGithubClient.builder()
+                    .githubOrganization("example-org")
+                    .uri(URI.create(server.baseUrl()))
+                    .build())
+            .branchName("master")
+            .build();
+
+    final RepositoryDelta first = repositorySync.sync(RepositorySnapshot.EMPTY);
+
+    assertThat(
+        names(first.getAdded()), is(List.of("aa_enhanced_revised", "roman_invasion", "tutorial")));
+    assertThat(first.getSnapshot().get("tutorial").get().getBranchInfo(), is(notNullValue()));
+    assertThat(first.getSnapshot().get("roman_invasion").get().getBranchInfo(), is(nullValue()));
+    assertThat(
+        first.getSnapshot().get("tutorial").get().getListing().getPushedAt(),
+        is(Instant.parse("2021-02-04T19:31:31Z")));
+
+    // 'tutorial' is pushed to and 'roman_invasion' is deleted
+    stubListing(server, page1.replace("2021-02-04T19:31:31Z", "2021-03-01T10:00:00Z"), "[]");
+
+    final RepositoryDelta second = repositorySync.sync(first.getSnapshot());
+
+    assertThat(second.getAdded(), is(List.of()));
+    assertThat(names(second.getUpdated()), is(List.of("tutorial")));
+    assertThat(names(second.getRemoved()), is(List.of("roman_invasion")));
+    assertThat(second.getSnapshot().size(), is(2));
+    assertThat(
+        second.getSnapshot().get("aa_enhanced_revised").get().getBranchInfo(), is(notNullValue()));
+    server.verify(2, getRequestedFor(urlEqualTo("/repos/example-org/tutorial/branches/master")));
+    server.verify(
+        1, getRequestedFor(urlEqualTo("/repos/example-org/aa_enhanced_revised/branches/master")));
+  }
+
+  private static List<String> names(final List<SyncedRepository> repositories) {
+    return repositories.stream()
+        .map(SyncedRepository::getName)
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  private static void stubListing(
+      final WireMockServer server, final String page1, final String page2) {
+    stubPage(server, 1, page1);
+    stubPage(server, 2, page2);
+    stubPage(server, 3, "[]");
+  }
+
+  private static void stubPage(final WireMockServer server, final int page, final String body) {
+    server.stubFor(
+        get("/orgs/example-org/repos?per_page=100&page=" + page)
+            .willReturn(aResponse().withStatus(200).withBody(body)));
+  }
+
+  private static void stubBranch(final WireMockServer server, final String repositoryName) {
+    server.stubFor(
+        get("/repos/example-org/" + repositoryName + "/branches/master")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/branch_listing_response.json"))));
+  }
+}
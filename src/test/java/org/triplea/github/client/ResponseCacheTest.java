@@ -0,0 +1,333 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import java.io.DataOutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.repo.RepositoryListing;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class ResponseCacheTest {
+  private static final String BRANCH_PATH = "/repos/example-org/map-repo/branches/master";
+  private static final String REPOS_PATH = "/orgs/example-org/repos?per_page=100&page=";
+
+  @Test
+  void notModifiedResponseIsServedFromCache(
+      @WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get(BRANCH_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("ETag", "\"etag-value\"")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/branch_listing_response.json"))));
+    server.stubFor(
+        get(BRANCH_PATH)
+            .withHeader("If-None-Match", equalTo("\"etag-value\""))
+            .willReturn(aResponse().withStatus(304)));
+
+    final ResponseCache responseCache = new ResponseCache();
+    final ExternalGithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .responseCache(responseCache)
+            // WireMock's gzip handler alters the ETag of compressed responses
+            .compressedResponses(false)
+            .build();
+
+    final BranchInfoResponse first = client.fetchBranchInfo("map-repo", "master");
+    final BranchInfoResponse second = client.fetchBranchInfo("map-repo", "master");
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(responseCache.getMissCount(), is(1L));
+    assertThat(responseCache.getHitCount(), is(1L));
+    assertThat(responseCache.getNotModifiedCount(), is(1L));
+    server.verify(
+        1,
+        getRequestedFor(urlEqualTo(BRANCH_PATH))
+            .withHeader("If-None-Match", equalTo("\"etag-value\"")));
+  }
+
+  @Test
+  void responsesWithoutValidatorsAreNotCached(
+      @WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get("/repos/example-org/map-repo/releases/latest")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+
+    final ResponseCache responseCache = new ResponseCache();
+    final ExternalGithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .responseCache(responseCache)
+            // WireMock's gzip handler alters the ETag of compressed responses
+            .compressedResponses(false)
+            .build();
+
+    client.fetchLatestVersion("map-repo");
+    client.fetchLatestVersion("map-repo");
+
+    assertThat(responseCache.size(), is(0));
+    assertThat(responseCache.getMissCount(), is(2L));
+    assertThat(responseCache.getNotModifiedCount(), is(0L));
+  }
+
+  @Test
+  void persistentCacheAnswersFromDiskAfterRestart(
+      @WiremockResolver.Wiremock final WireMockServer server, @TempDir final Path cacheDirectory)
+      throws Exception {
+    stubBranchWithEtag(server);
+
+    final BranchInfoResponse fetched;
+    try (ResponseCache responseCache =
+        ResponseCache.persistent(cacheDirectory, Duration.ofDays(1))) {
+      fetched = clientWithCache(server, responseCache).fetchBranchInfo("map-repo", "master");
+    }
+
+    try (ResponseCache restarted = ResponseCache.persistent(cacheDirectory, Duration.ofDays(1))) {
+      assertThat(restarted.size(), is(1));
+
+      final BranchInfoResponse restored =
+          clientWithCache(server, restarted).fetchBranchInfo("map-repo", "master");
+
+      assertThat(restored, is(fetched));
+      assertThat(restarted.getRestoredHitCount(), is(1L));
+      awaitConditionalRequest(server);
+    }
+  }
+
+  @Test
+  void staleRestoredResponseIsRevalidatedBeforeUse(
+      @WiremockResolver.Wiremock final WireMockServer server, @TempDir final Path cacheDirectory)
+      throws Exception {
+    stubBranchWithEtag(server);
+    try (ResponseCache responseCache = ResponseCache.persistent(cacheDirectory, Duration.ZERO)) {
+      clientWithCache(server, responseCache).fetchBranchInfo("map-repo", "master");
+    }
+
+    try (ResponseCache restarted = ResponseCache.persistent(cacheDirectory, Duration.ZERO)) {
+      clientWithCache(server, restarted).fetchBranchInfo("map-repo", "master");
+
+      assertThat(restarted.getRestoredHitCount(), is(0L));
+      assertThat(restarted.getNotModifiedCount(), is(1L));
+      server.verify(
+          1,
+          getRequestedFor(urlEqualTo(BRANCH_PATH))
+              .withHeader("If-None-Match", equalTo("\"etag-value\"")));
+    }
+  }
+
+  @Test
+  @DisplayName("A response confirmed by a 304 is served from disk after a restart")
+  void revalidationIsPersisted(
+      @WiremockResolver.Wiremock final WireMockServer server, @TempDir final Path cacheDirectory)
+      throws Exception {
+    stubBranchWithEtag(server);
+    final Instant fetchedAt = Instant.parse("2020-01-01T00:00:00Z");
+    final Duration maxStaleness = Duration.ofDays(1);
+    try (ResponseCache responseCache =
+        ResponseCache.persistent(cacheDirectory, maxStaleness, fixedClock(fetchedAt))) {
+      clientWithCache(server, responseCache).fetchBranchInfo("map-repo", "master");
+    }
+    // too stale to be served, revalidated with a 304
+    final Instant revalidatedAt = fetchedAt.plus(Duration.ofDays(2));
+    try (ResponseCache responseCache =
+        ResponseCache.persistent(cacheDirectory, maxStaleness, fixedClock(revalidatedAt))) {
+      clientWithCache(server, responseCache).fetchBranchInfo("map-repo", "master");
+      assertThat(responseCache.getRestoredHitCount(), is(0L));
+      assertThat(responseCache.getNotModifiedCount(), is(1L));
+    }
+
+    try (ResponseCache restarted =
+        ResponseCache.persistent(
+            cacheDirectory, maxStaleness, fixedClock(revalidatedAt.plus(Duration.ofHours(1))))) {
+      clientWithCache(server, restarted).fetchBranchInfo("map-repo", "master");
+
+      assertThat(restarted.getRestoredHitCount(), is(1L));
+    }
+  }
+
+  @Test
+  @DisplayName("Pages are still requested concurrently when the first page is restored from disk")
+  void repositoryListingKeepsLinkHeaderAfterRestart(
+      @WiremockResolver.Wiremock final WireMockServer server, @TempDir final Path cacheDirectory)
+      throws Exception {
+    server.stubFor(
+        get(REPOS_PATH + "1")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("ETag", "\"page-1\"")
+                    .withHeader(
+                        "Link",
+                        "<"
+                            + server.baseUrl()
+                            + REPOS_PATH
+                            + "2>; rel=\"next\", <"
+                            + server.baseUrl()
+                            + REPOS_PATH
+                            + "2>; rel=\"last\"")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/repo_listing_response_page1.json"))));
+    server.stubFor(
+        get(REPOS_PATH + "1")
+            .withHeader("If-None-Match", equalTo("\"page-1\""))
+            .willReturn(aResponse().withStatus(304)));
+    server.stubFor(
+        get(REPOS_PATH + "2")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/repo_listing_response_page2.json"))));
+    try (ResponseCache responseCache =
+        ResponseCache.persistent(cacheDirectory, Duration.ofDays(1))) {
+      clientWithCache(server, responseCache).listRepositories();
+    }
+
+    try (ResponseCache restarted = ResponseCache.persistent(cacheDirectory, Duration.ofDays(1))) {
+      final Collection<RepositoryListing> repos =
+          clientWithCache(server, restarted).listRepositories();
+
+      assertThat(repos, hasSize(3));
+      assertThat(restarted.getRestoredHitCount(), is(1L));
+      server.verify(0, getRequestedFor(urlEqualTo(REPOS_PATH + "3")));
+    }
+  }
+
+  @Test
+  void incompleteRecordIsDiscardedOnLoad(@TempDir final Path cacheDirectory) throws Exception {
+    final ResponseCacheStore store = new ResponseCacheStore(cacheDirectory);
+    store.load();
+    store.append(
+        new ResponseCacheStore.StoredResponse(
+            "http://localhost/a", "\"etag\"", null, null, Instant.EPOCH, new byte[] {1, 2, 3}));
+    store.close();
+    Files.write(
+        cacheDirectory.resolve(ResponseCacheStore.FILE_NAME),
+        new byte[] {0, 42, 'h'},
+        StandardOpenOption.APPEND);
+
+    final ResponseCacheStore reopened = new ResponseCacheStore(cacheDirectory);
+    final Map<String, ResponseCacheStore.StoredResponse> responses = reopened.load();
+    reopened.append(
+        new ResponseCacheStore.StoredResponse(
+            "http://localhost/b", null, "yesterday", null, Instant.EPOCH, new byte[0]));
+    reopened.close();
+
+    assertThat(responses.keySet(), is(Set.of("http://localhost/a")));
+    assertThat(responses.get("http://localhost/a").getBody(), is(new byte[] {1, 2, 3}));
+    final ResponseCacheStore third = new ResponseCacheStore(cacheDirectory);
+    assertThat(third.load().keySet(), is(Set.of("http://localhost/a", "http://localhost/b")));
+    third.close();
+  }
+
+  @Test
+  void corruptRecordIsDiscardedOnLoad(@TempDir final Path cacheDirectory) throws Exception {
+    final ResponseCacheStore store = new ResponseCacheStore(cacheDirectory);
+    store.load();
+    store.append(
+        new ResponseCacheStore.StoredResponse(
+            "http://localhost/a", "\"etag\"", null, null, Instant.EPOCH, new byte[] {1, 2, 3}));
+    store.close();
+    // a response record of URL "b" with a negative body length
+    try (DataOutputStream output =
+        new DataOutputStream(
+            Files.newOutputStream(
+                cacheDirectory.resolve(ResponseCacheStore.FILE_NAME), StandardOpenOption.APPEND))) {
+      output.writeByte(0);
+      output.writeUTF("http://localhost/b");
+      output.write(new byte[] {0, 0, 0});
+      output.writeLong(0);
+      output.writeInt(-1);
+    }
+
+    try (ResponseCache responseCache =
+        ResponseCache.persistent(cacheDirectory, Duration.ofDays(1))) {
+      assertThat(responseCache.size(), is(1));
+    }
+    final ResponseCacheStore reopened = new ResponseCacheStore(cacheDirectory);
+    assertThat(reopened.load().keySet(), is(Set.of("http://localhost/a")));
+    reopened.close();
+  }
+
+  private static Clock fixedClock(final Instant instant) {
+    return Clock.fixed(instant, ZoneOffset.UTC);
+  }
+
+  private static void stubBranchWithEtag(final WireMockServer server) {
+    server.stubFor(
+        get(BRANCH_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("ETag", "\"etag-value\"")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/branch_listing_response.json"))));
+    server.stubFor(
+        get(BRANCH_PATH)
+            .withHeader("If-None-Match", equalTo("\"etag-value\""))
+            .willReturn(aResponse().withStatus(304)));
+  }
+
+  private static ExternalGithubClient clientWithCache(
+      final WireMockServer server, final ResponseCache responseCache) {
+    return ExternalGithubClient.builder()
+        .githubOrganization("example-org")
+        .uri(URI.create(server.baseUrl()))
+        .responseCache(responseCache)
+        // WireMock's gzip handler alters the ETag of compressed responses
+        .compressedResponses(false)
+        .build();
+  }
+
+  private static void awaitConditionalRequest(final WireMockServer server)
+      throws InterruptedException {
+    final RequestPatternBuilder conditionalRequest =
+        getRequestedFor(urlEqualTo(BRANCH_PATH))
+            .withHeader("If-None-Match", equalTo("\"etag-value\""));
+    for (int i = 0; i < 100 && server.findAll(conditionalRequest).isEmpty(); i++) {
+      Thread.sleep(50);
+    }
+    server.verify(1, conditionalRequest);
+  }
+}
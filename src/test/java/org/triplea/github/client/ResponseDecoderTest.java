@@ -0,0 +1,109 @@
+package org.triplea.github.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.triplea.github.client.branch.BranchInfoResponse;
+import org.triplea.github.client.repo.LatestReleaseResponse;
+import org.triplea.github.client.repo.RepositoryListing;
+
+class ResponseDecoderTest {
+
+  private static Response response(final String sampleFile, final Map<String, String> headers) {
+    return Response.builder()
+        .status(200)
+        .request(
+            Request.create(
+                Request.HttpMethod.GET,
+                "https://api.github.com",
+                Map.of(),
+                null,
+                StandardCharsets.UTF_8,
+                null))
+        .headers(
+            headers.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> List.of(e.getValue()))))
+        .body(TestDataFileReader.readContents(sampleFile), StandardCharsets.UTF_8)
+        .build();
+  }
+
+  @Test
+  void decodeBranchInfo() throws IOException {
+    final BranchInfoResponse branchInfo =
+        (BranchInfoResponse)
+            ExternalGithubClient.responseDecoder()
+                .decode(
+                    response("sample_responses/branch_listing_response.json", Map.of()),
+                    BranchInfoResponse.class);
+
+    assertThat(branchInfo.getLastCommitDate(), is(Instant.parse("2021-02-04T19:30:32Z")));
+  }
+
+  @Test
+  void decodeLatestRelease() throws IOException {
+    final LatestReleaseResponse latestRelease =
+        (LatestReleaseResponse)
+            ExternalGithubClient.responseDecoder()
+                .decode(
+                    response("sample_responses/latest_release_response.json", Map.of()),
+                    LatestReleaseResponse.class);
+
+    assertThat(latestRelease.getTagName(), is("2.5.22294"));
+  }
+
+  @Test
+  void decodeRepositoryListingPage() throws IOException {
+    final RepositoryListingPage page =
+        (RepositoryListingPage)
+            ExternalGithubClient.responseDecoder()
+                .decode(
+                    response(
+                        "sample_responses/repo_listing_response_page1.json",
+                        Map.of(
+                            "Link",
+                            "<https://api.github.com/orgs/example-org/repos?page=4>;"
+                                + " rel=\"last\"")),
+                    RepositoryListingPage.class);
+
+    assertThat(page.getLastPage().orElseThrow(), is(4));
+    assertThat(
+        page.getRepositories(),
+        contains(
+            RepositoryListing.builder()
+                .htmlUrl("https://github.com/triplea-maps/tutorial")
+                .name("tutorial")
+                .build(),
+            RepositoryListing.builder()
+                .htmlUrl("https://github.com/triplea-maps/aa_enhanced_revised")
+                .name("aa_enhanced_revised")
+                .build()));
+  }
+
+  @Test
+  void decodeRepositoryListingWithJackson() throws IOException {
+    final List<RepositoryListing> repositories =
+        new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .readValue(
+                TestDataFileReader.readContents(
+                    "sample_responses/repo_listing_response_page2.json"),
+                new TypeReference<List<RepositoryListing>>() {});
+
+    final RepositoryListing repository = repositories.get(0);
+    assertThat(repository.getPushedAt(), is(Instant.parse("2017-12-14T04:28:01Z")));
+    assertThat(repository.getUpdatedAt(), is(Instant.parse("2016-02-02T09:33:59Z")));
+  }
+}
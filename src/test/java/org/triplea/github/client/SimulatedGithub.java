@@ -0,0 +1,262 @@
+package org.triplea.github.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import java.io.Closeable;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Builder;
+
+/**
+ * Local stand-in for the Github web-API, used by load tests. Simulates an organization with a
+ * configurable number of repositories and answers repository listing, latest release and branch
+ * requests. Responses are delayed by a latency plus random jitter, fail at a configurable rate,
+ * carry rate limit headers and, if enabled, have an 'ETag' that conditional requests are answered
+ * with 304 for.
+ */
+class SimulatedGithub implements Closeable {
+  private static final Pattern LIST_REPOS =
+      Pattern.compile("/orgs/([^/]+)/repos\\?per_page=(\\d+)&page=(\\d+)");
+  private static final Pattern LATEST_RELEASE =
+      Pattern.compile("/repos/([^/]+)/repo-(\\d+)/releases/latest");
+  private static final Pattern BRANCH = Pattern.compile("/repos/([^/]+)/repo-(\\d+)/branches/.+");
+
+  private final String organization;
+  private final int repositoryCount;
+  private final Duration latency;
+  private final Duration jitter;
+  private final double errorRate;
+  private final int rateLimit;
+  private final boolean conditionalRequests;
+
+  private final WireMockServer server;
+  private final Map<String, String> listingPages = new ConcurrentHashMap<>();
+  private final AtomicInteger rateLimitRemaining;
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder notModified = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+
+  /**
+   * @param organization Name of the simulated organization, defaults to 'example-org'.
+   * @param repositoryCount Number of repositories of the organization, named 'repo-00000',
+   *     'repo-00001', ... Defaults to 1000.
+   * @param latency Time each response is delayed by, defaults to none.
+   * @param jitter Max random time added to the latency of each response, defaults to none.
+   * @param errorRate Fraction (0 to 1) of requests answered with a 502 error, defaults to none.
+   * @param rateLimit Hourly request budget reported by the rate limit headers, defaults to 5000.
+   *     The budget is refilled once exhausted, responses to conditional requests do not use it.
+   * @param conditionalRequests Whether responses have an 'ETag', and requests with a matching
+   *     'If-None-Match' header are answered with 304.
+   */
+  @Builder
+  SimulatedGithub(
+      final String organization,
+      final Integer repositoryCount,
+      final Duration latency,
+      final Duration jitter,
+      final double errorRate,
+      final Integer rateLimit,
+      final boolean conditionalRequests) {
+    this.organization = organization == null ? "example-org" : organization;
+    this.repositoryCount = repositoryCount == null ? 1000 : repositoryCount;
+    this.latency = latency == null ? Duration.ZERO : latency;
+    this.jitter = jitter == null ? Duration.ZERO : jitter;
+    this.errorRate = errorRate;
+    this.rateLimit = rateLimit == null ? 5000 : rateLimit;
+    this.conditionalRequests = conditionalRequests;
+    rateLimitRemaining = new AtomicInteger(this.rateLimit);
+
+    server =
+        new WireMockServer(
+            options()
+                .dynamicPort()
+                .containerThreads(200)
+                .jettyAcceptors(4)
+                .disableRequestJournal()
+                .extensions(new Responder()));
+    server.stubFor(any(anyUrl()).willReturn(aResponse()));
+    server.start();
+  }
+
+  URI getUri() {
+    return URI.create(server.baseUrl());
+  }
+
+  String getOrganization() {
+    return organization;
+  }
+
+  int getRepositoryCount() {
+    return repositoryCount;
+  }
+
+  long getRequestCount() {
+    return requests.sum();
+  }
+
+  long getNotModifiedCount() {
+    return notModified.sum();
+  }
+
+  long getErrorCount() {
+    return errors.sum();
+  }
+
+  static String repositoryName(final int index) {
+    return String.format("repo-%05d", index);
+  }
+
+  @Override
+  public void close() {
+    server.stop();
+  }
+
+  private class Responder extends ResponseDefinitionTransformer {
+    @Override
+    public String getName() {
+      return "simulated-github";
+    }
+
+    @Override
+    public ResponseDefinition transform(
+        final Request request,
+        final ResponseDefinition responseDefinition,
+        final FileSource files,
+        final Parameters parameters) {
+      requests.increment();
+      final ThreadLocalRandom random = ThreadLocalRandom.current();
+      final int delayMillis = (int) (latency.toMillis() + random.nextLong(jitter.toMillis() + 1));
+
+      if (random.nextDouble() < errorRate) {
+        errors.increment();
+        return response(502, "{\"message\": \"Server Error\"}", delayMillis).build();
+      }
+
+      final String url = request.getUrl();
+      final Matcher listRepos = LIST_REPOS.matcher(url);
+      final Matcher latestRelease = LATEST_RELEASE.matcher(url);
+      final Matcher branch = BRANCH.matcher(url);
+      if (listRepos.matches() && listRepos.group(1).equals(organization)) {
+        final int perPage = Integer.parseInt(listRepos.group(2));
+        final int page = Integer.parseInt(listRepos.group(3));
+        final int lastPage = Math.max(1, (repositoryCount + perPage - 1) / perPage);
+        final String body =
+            listingPages.computeIfAbsent(perPage + "/" + page, key -> listingPage(perPage, page));
+        final ResponseDefinitionBuilder response = conditional(request, body, delayMillis);
+        if (page < lastPage) {
+          final String pageUrl = server.baseUrl() + "/orgs/" + organization + "/repos?per_page=";
+          response.withHeader(
+              "Link",
+              String.format(
+                  "<%s%d&page=%d>; rel=\"next\", <%s%d&page=%d>; rel=\"last\"",
+                  pageUrl, perPage, page + 1, pageUrl, perPage, lastPage));
+        }
+        return response.build();
+      } else if (latestRelease.matches() && isRepository(latestRelease)) {
+        final int index = Integer.parseInt(latestRelease.group(2));
+        return conditional(request, "{\"tag_name\": \"2.5." + (20000 + index) + "\"}", delayMillis)
+            .build();
+      } else if (branch.matches() && isRepository(branch)) {
+        final String date =
+            Instant.ofEpochSecond(1600000000L + Integer.parseInt(branch.group(2))).toString();
+        return conditional(
+                request,
+                "{\"name\": \"master\", \"commit\": {\"commit\": {\"author\": {\"date\": \""
+                    + date
+                    + "\"}}}}",
+                delayMillis)
+            .build();
+      }
+      return response(404, "{\"message\": \"Not Found\"}", delayMillis).build();
+    }
+
+    private boolean isRepository(final Matcher matcher) {
+      return matcher.group(1).equals(organization)
+          && Integer.parseInt(matcher.group(2)) < repositoryCount;
+    }
+
+    private ResponseDefinitionBuilder conditional(
+        final Request request, final String body, final int delayMillis) {
+      if (!conditionalRequests) {
+        return response(200, body, delayMillis);
+      }
+      final String etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+      if (etag.equals(request.getHeader("If-None-Match"))) {
+        notModified.increment();
+        return rateLimitHeaders(aResponse().withStatus(304).withFixedDelay(delayMillis), false)
+            .withHeader("ETag", etag);
+      }
+      return response(200, body, delayMillis).withHeader("ETag", etag);
+    }
+
+    private ResponseDefinitionBuilder response(
+        final int status, final String body, final int delayMillis) {
+      return rateLimitHeaders(
+          aResponse()
+              .withStatus(status)
+              .withHeader("Content-Type", "application/json")
+              .withFixedDelay(delayMillis)
+              .withBody(body),
+          true);
+    }
+
+    private ResponseDefinitionBuilder rateLimitHeaders(
+        final ResponseDefinitionBuilder response, final boolean usesBudget) {
+      final int remaining =
+          usesBudget
+              ? rateLimitRemaining.updateAndGet(left -> left > 0 ? left - 1 : rateLimit - 1)
+              : rateLimitRemaining.get();
+      return response
+          .withHeader("X-RateLimit-Limit", String.valueOf(rateLimit))
+          .withHeader("X-RateLimit-Remaining", String.valueOf(remaining))
+          .withHeader(
+              "X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()))
+          .withHeader("X-RateLimit-Resource", "core");
+    }
+  }
+
+  private String listingPage(final int perPage, final int page) {
+    final StringBuilder body = new StringBuilder("[");
+    final int first = (page - 1) * perPage;
+    for (int index = first; index < Math.min(first + perPage, repositoryCount); index++) {
+      if (index > first) {
+        body.append(',');
+      }
+      final String name = repositoryName(index);
+      body.append("{\"name\": \"")
+          .append(name)
+          .append("\", \"full_name\": \"")
+          .append(organization)
+          .append('/')
+          .append(name)
+          .append("\", \"html_url\": \"https://github.com/")
+          .append(organization)
+          .append('/')
+          .append(name)
+          .append("\", \"pushed_at\": \"")
+          .append(Instant.ofEpochSecond(1600000000L + index))
+          .append("\", \"updated_at\": \"")
+          .append(Instant.ofEpochSecond(1600000000L + index))
+          .append("\"}");
+    }
+    return body.append(']').toString();
+  }
+}
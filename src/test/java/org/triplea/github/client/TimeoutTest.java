@@ -0,0 +1,173 @@
+package org.triplea.github.client;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresentAndIs;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class TimeoutTest {
+  private static final String RELEASE_PATH = "/repos/example-org/map-repo/releases/latest";
+
+  @Test
+  void slowResponseExceedsOperationTimeout(@WiremockResolver.Wiremock final WireMockServer server) {
+    stubRelease(server, 1000);
+    final ExternalGithubClient client =
+        ExternalGithubClient.builder()
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .timeoutSettings(
+                TimeoutSettings.builder().fetchLatestVersion(Duration.ofMillis(200)).build())
+            .build();
+
+    assertThat(client.fetchLatestVersion("map-repo"), isEmpty());
+    assertThat(
+        client.withTimeout(Duration.ofSeconds(5)).fetchLatestVersion("map-repo"),
+        isPresentAndIs("2.5.22294"));
+  }
+
+  @Test
+  void slowRequestIsHedged() {
+    // only the first request is slow, WireMock scenarios do not reliably tell apart concurrent
+    // requests
+    final WireMockServer server =
+        new WireMockServer(options().dynamicPort().extensions(new SlowFirstResponse()));
+    server.stubFor(
+        get(RELEASE_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+    server.start();
+    try {
+      final ExternalGithubClient client =
+          ExternalGithubClient.builder()
+              .githubOrganization("example-org")
+              .uri(URI.create(server.baseUrl()))
+              .hedgeDelay(Duration.ofMillis(100))
+              .build();
+
+      final long start = System.nanoTime();
+      assertThat(client.fetchLatestVersion("map-repo"), isPresentAndIs("2.5.22294"));
+
+      assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), is(lessThan(2000L)));
+      server.verify(2, getRequestedFor(urlEqualTo(RELEASE_PATH)));
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  void unusedAttemptIsClosedWhenTheFirstAttemptFails() throws Exception {
+    final Request request =
+        Request.create(
+            Request.HttpMethod.GET,
+            "https://api.github.com" + RELEASE_PATH,
+            Map.of(),
+            null,
+            StandardCharsets.UTF_8,
+            null);
+    final CountDownLatch closed = new CountDownLatch(1);
+    final AtomicInteger calls = new AtomicInteger();
+    final Client delegate =
+        (attemptRequest, options) -> {
+          if (calls.incrementAndGet() == 1) {
+            sleep(300);
+            throw new IllegalStateException("primary failed");
+          }
+          sleep(600);
+          return Response.builder()
+              .status(200)
+              .request(attemptRequest)
+              .body(
+                  new ByteArrayInputStream(new byte[0]) {
+                    @Override
+                    public void close() {
+                      closed.countDown();
+                    }
+                  },
+                  0)
+              .build();
+        };
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            new HedgingClient(delegate, Duration.ofMillis(50))
+                .execute(request, new Request.Options()));
+
+    assertThat(closed.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  /** Delays the response to the first request by three seconds. */
+  private static class SlowFirstResponse extends ResponseDefinitionTransformer {
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Override
+    public String getName() {
+      return "slow-first-response";
+    }
+
+    @Override
+    public ResponseDefinition transform(
+        final com.github.tomakehurst.wiremock.http.Request request,
+        final ResponseDefinition responseDefinition,
+        final FileSource files,
+        final Parameters parameters) {
+      return requests.getAndIncrement() == 0
+          ? ResponseDefinitionBuilder.like(responseDefinition).withFixedDelay(3000).build()
+          : responseDefinition;
+    }
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void stubRelease(final WireMockServer server, final int delayMillis) {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withFixedDelay(delayMillis)
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+  }
+}
@@ -0,0 +1,173 @@
+package org.triplea.github.client;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import ru.lanwen.wiremock.ext.WiremockResolver;
+import ru.lanwen.wiremock.ext.WiremockUriResolver;
+
+@ExtendWith({WiremockResolver.class, WiremockUriResolver.class})
+class TokenPoolTest {
+  private static final String RELEASE_PATH = "/repos/example-org/map-repo/releases/latest";
+  private static final String ASSET_PATH = "/repos/example-org/map-repo/releases/assets/1";
+
+  @Test
+  void requestsGoToTokenWithMostBudgetLeft(@WiremockResolver.Wiremock final WireMockServer server) {
+    stubRelease(server, "token-aaaa", 200, 40);
+    stubRelease(server, "token-bbbb", 200, 4000);
+    final ExternalGithubClient client = pooledClient(server);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(client.fetchLatestVersion("map-repo"), isPresent());
+    }
+
+    // each token is used once to learn its budget, then the one with more budget is preferred
+    server.verify(1, tokenRequests("token-aaaa"));
+    server.verify(9, tokenRequests("token-bbbb"));
+    final List<AuthTokenStats> stats = client.getAuthTokenStats();
+    assertThat(stats.get(0).getLabel(), is("aaaa"));
+    assertThat(stats.get(0).getRequestCount(), is(1L));
+    assertThat(stats.get(1).getRequestCount(), is(9L));
+    assertThat(stats.get(1).getCoreRateLimit().getRemaining(), is(4000));
+  }
+
+  @Test
+  void exhaustedTokenIsSkippedUntilReset(@WiremockResolver.Wiremock final WireMockServer server) {
+    stubRelease(server, "token-aaaa", 200, 0);
+    stubRelease(server, "token-bbbb", 200, 3);
+    final ExternalGithubClient client = pooledClient(server);
+
+    for (int i = 0; i < 5; i++) {
+      client.fetchLatestVersion("map-repo");
+    }
+
+    server.verify(1, tokenRequests("token-aaaa"));
+    server.verify(4, tokenRequests("token-bbbb"));
+  }
+
+  @Test
+  void rejectedTokenIsTakenOutOfRotation(@WiremockResolver.Wiremock final WireMockServer server) {
+    stubRelease(server, "token-aaaa", 401, 5000);
+    stubRelease(server, "token-bbbb", 200, 10);
+    final ExternalGithubClient client = pooledClient(server);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(client.fetchLatestVersion("map-repo"), isPresent());
+    }
+
+    server.verify(1, tokenRequests("token-aaaa"));
+    server.verify(3, tokenRequests("token-bbbb"));
+    assertThat(client.getAuthTokenStats().get(0).isRevoked(), is(true));
+    assertThat(client.getAuthTokenStats().get(1).isRevoked(), is(false));
+  }
+
+  @Test
+  @DisplayName(
+      "A token rejected by a rate limit is skipped, the request is sent with another token")
+  void rateLimitedTokenIsSwitched(@WiremockResolver.Wiremock final WireMockServer server) {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .withHeader("Authorization", equalTo("token token-aaaa"))
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "60")));
+    stubRelease(server, "token-bbbb", 200, 4000);
+    final ExternalGithubClient client =
+        ExternalGithubClient.builder()
+            .authTokens(List.of("token-aaaa", "token-bbbb"))
+            .githubOrganization("example-org")
+            .uri(URI.create(server.baseUrl()))
+            .rateLimitSettings(RateLimitSettings.builder().build())
+            .build();
+
+    // the first request is rejected for the first token, and sent again with the second one
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> {
+          for (int i = 0; i < 5; i++) {
+            assertThat(client.fetchLatestVersion("map-repo"), isPresent());
+          }
+        });
+
+    server.verify(1, tokenRequests("token-aaaa"));
+    server.verify(5, tokenRequests("token-bbbb"));
+  }
+
+  @Test
+  void downloadsAreCountedAgainstTheirToken(
+      @WiremockResolver.Wiremock final WireMockServer server, @TempDir final Path tempDir)
+      throws Exception {
+    server.stubFor(
+        get(ASSET_PATH)
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("X-RateLimit-Limit", "5000")
+                    .withHeader("X-RateLimit-Remaining", "1234")
+                    .withHeader(
+                        "X-RateLimit-Reset",
+                        String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()))
+                    .withHeader("X-RateLimit-Resource", "core")
+                    .withBody(new byte[] {1, 2, 3})));
+    final ExternalGithubClient client = pooledClient(server);
+
+    client.downloadReleaseAsset(
+        URI.create(server.baseUrl() + ASSET_PATH), tempDir.resolve("asset.zip"), null);
+
+    final List<AuthTokenStats> stats = client.getAuthTokenStats();
+    final AuthTokenStats used = stats.get(0).getRequestCount() == 1 ? stats.get(0) : stats.get(1);
+    assertThat(used.getRequestCount(), is(1L));
+    assertThat(used.getCoreRateLimit().getRemaining(), is(1234));
+    server.verify(
+        getRequestedFor(urlEqualTo(ASSET_PATH))
+            .withHeader("Authorization", equalTo("token token-" + used.getLabel())));
+  }
+
+  private static void stubRelease(
+      final WireMockServer server, final String token, final int status, final int remaining) {
+    server.stubFor(
+        get(RELEASE_PATH)
+            .withHeader("Authorization", equalTo("token " + token))
+            .willReturn(
+                aResponse()
+                    .withStatus(status)
+                    .withHeader("X-RateLimit-Limit", "5000")
+                    .withHeader("X-RateLimit-Remaining", String.valueOf(remaining))
+                    .withHeader(
+                        "X-RateLimit-Reset",
+                        String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()))
+                    .withHeader("X-RateLimit-Resource", "core")
+                    .withBody(
+                        TestDataFileReader.readContents(
+                            "sample_responses/latest_release_response.json"))));
+  }
+
+  private static RequestPatternBuilder tokenRequests(final String token) {
+    return getRequestedFor(urlEqualTo(RELEASE_PATH))
+        .withHeader("Authorization", equalTo("token " + token));
+  }
+
+  private static ExternalGithubClient pooledClient(final WireMockServer server) {
+    return ExternalGithubClient.builder()
+        .authTokens(List.of("token-aaaa", "token-bbbb"))
+        .githubOrganization("example-org")
+        .uri(URI.create(server.baseUrl()))
+        .build();
+  }
+}
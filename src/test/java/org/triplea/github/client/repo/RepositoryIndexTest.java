@@ -0,0 +1,82 @@
+package org.triplea.github.client.repo;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresentAndIs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RepositoryIndexTest {
+  private static RepositoryListing listing(final String name) {
+    return RepositoryListing.builder()
+        .name(name)
+        .htmlUrl("https://github.com/triplea-maps/" + name)
+        .build();
+  }
+
+  @Test
+  void lookupByName() {
+    final RepositoryIndex index =
+        RepositoryIndex.of(
+            List.of(
+                listing("world_war_ii_v3"),
+                listing("tutorial"),
+                RepositoryListing.builder()
+                    .name("moved")
+                    .htmlUrl("https://github.com/other-org/renamed")
+                    .build()));
+
+    assertThat(index.size(), is(3));
+    assertThat(index.contains("tutorial"), is(true));
+    assertThat(index.contains("missing"), is(false));
+    assertThat(
+        index.getUri("world_war_ii_v3"),
+        isPresentAndIs(URI.create("https://github.com/triplea-maps/world_war_ii_v3")));
+    assertThat(
+        index.getUri("moved"), isPresentAndIs(URI.create("https://github.com/other-org/renamed")));
+    assertThat(index.getUri("missing"), isEmpty());
+    // parsed once, then kept
+    assertThat(index.getUri("tutorial").get(), is(sameInstance(index.getUri("tutorial").get())));
+  }
+
+  @Test
+  void namesAreSortedAndSearchableByPrefix() {
+    final RepositoryIndex index =
+        RepositoryIndex.of(
+            List.of(
+                listing("world_war_ii_v3"),
+                listing("world_war_i"),
+                listing("tutorial"),
+                listing("world_at_war"),
+                listing("world_war_ii_v3")));
+
+    assertThat(
+        index.getNames(), contains("tutorial", "world_at_war", "world_war_i", "world_war_ii_v3"));
+    assertThat(index.findByPrefix("world_war"), contains("world_war_i", "world_war_ii_v3"));
+    assertThat(index.findByPrefix("world_war_ii"), contains("world_war_ii_v3"));
+    assertThat(index.findByPrefix("zzz"), is(empty()));
+    assertThat(index.findByPrefix("").size(), is(4));
+  }
+
+  @Test
+  void everyRepositoryOfLargeIndexIsFound() {
+    final List<RepositoryListing> listings =
+        IntStream.range(0, 10_000).mapToObj(i -> listing("map-" + i)).collect(Collectors.toList());
+
+    final RepositoryIndex index = RepositoryIndex.of(listings);
+
+    assertThat(index.size(), is(10_000));
+    for (final RepositoryListing listing : listings) {
+      assertThat(index.getUri(listing.getName()), isPresentAndIs(listing.getUri()));
+    }
+    assertThat(RepositoryIndex.EMPTY.contains("map-1"), is(false));
+  }
+}